@@ -0,0 +1,115 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     ExecutorBenchmark.java
+ * Folder:   /.../com/soulwarelabs/jparley/benchmarks
+ * Revision: 1.01, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.benchmarks;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.soulwarelabs.jparley.core.Interceptor;
+import com.soulwarelabs.jparley.core.StandardExecutor;
+import com.soulwarelabs.jparley.core.StandardProcedure;
+
+/**
+ * Standard executor call path benchmark.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ExecutorBenchmark {
+
+    private static final Interceptor NOTHING = new Interceptor() {
+
+        @Override
+        public void perform(Connection connection) throws SQLException {
+        }
+    };
+
+    private StandardExecutor intercepted;
+    private StandardProcedure bare;
+    private StandardExecutor plain;
+    private StandardProcedure procedure;
+
+    /**
+     * Prepares benchmark state.
+     *
+     * @since v1.1
+     */
+    @Setup
+    public void setup() {
+        intercepted = new StandardExecutor(Stubs.createPool(), NOTHING,
+                NOTHING);
+        plain = new StandardExecutor(Stubs.createPool());
+        procedure = new StandardProcedure("bench_procedure", NOTHING,
+                NOTHING);
+        procedure.in(1, (Object) 1L);
+        procedure.in(2, (Object) "value");
+        bare = new StandardProcedure("bench_procedure");
+        bare.in(1, (Object) 1L);
+        bare.in(2, (Object) "value");
+    }
+
+    /**
+     * Measures executor call with interceptors.
+     *
+     * @return SQL procedure.
+     * @throws SQLException if error occurs while executing the procedure.
+     *
+     * @since v1.1
+     */
+    @Benchmark
+    public StandardProcedure intercepted() throws SQLException {
+        intercepted.call(procedure);
+        return procedure;
+    }
+
+    /**
+     * Measures executor call without interceptors.
+     *
+     * @return SQL procedure.
+     * @throws SQLException if error occurs while executing the procedure.
+     *
+     * @since v1.1
+     */
+    @Benchmark
+    public StandardProcedure plain() throws SQLException {
+        plain.call(bare);
+        return bare;
+    }
+}
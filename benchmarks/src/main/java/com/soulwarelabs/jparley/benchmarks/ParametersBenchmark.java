@@ -0,0 +1,122 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     ParametersBenchmark.java
+ * Folder:   /.../com/soulwarelabs/jparley/benchmarks
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.benchmarks;
+
+import java.sql.Types;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.soulwarelabs.jcommons.Box;
+
+import com.soulwarelabs.jparley.core.StandardProcedure;
+
+/**
+ * Input parameters registration benchmark.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ParametersBenchmark {
+
+    private final Box<Object> box = new Box<Object>("value");
+    private final StandardProcedure procedure =
+            new StandardProcedure("bench_procedure");
+
+    /**
+     * Measures boxed parameters registration by index.
+     *
+     * @return SQL procedure.
+     *
+     * @since v1.1
+     */
+    @Benchmark
+    public StandardProcedure indexBoxes() {
+        procedure.reset();
+        for (int i = 1; i <= 10; i++) {
+            procedure.in(i, box);
+        }
+        return procedure;
+    }
+
+    /**
+     * Measures plain parameters registration by index.
+     *
+     * @return SQL procedure.
+     *
+     * @since v1.1
+     */
+    @Benchmark
+    public StandardProcedure indexValues() {
+        procedure.reset();
+        for (int i = 1; i <= 10; i++) {
+            procedure.in(i, (Object) "value");
+        }
+        return procedure;
+    }
+
+    /**
+     * Measures typed parameters registration by index.
+     *
+     * @return SQL procedure.
+     *
+     * @since v1.1
+     */
+    @Benchmark
+    public StandardProcedure indexTypedValues() {
+        procedure.reset();
+        for (int i = 1; i <= 10; i++) {
+            procedure.in(i, (Object) "value", Types.VARCHAR);
+        }
+        return procedure;
+    }
+
+    /**
+     * Measures plain parameters registration by name.
+     *
+     * @return SQL procedure.
+     *
+     * @since v1.1
+     */
+    @Benchmark
+    public StandardProcedure nameValues() {
+        procedure.reset();
+        procedure.in("p_first", (Object) "value");
+        procedure.in("p_second", (Object) "value");
+        procedure.in("p_third", (Object) "value");
+        return procedure;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     PrinterBenchmark.java
+ * Folder:   /.../com/soulwarelabs/jparley/benchmarks
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.soulwarelabs.jparley.core.StandardProcedure;
+
+/**
+ * Subroutine parameters printing benchmark.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class PrinterBenchmark {
+
+    @Param({"5", "50"})
+    private int parametersNumber;
+
+    private StandardProcedure procedure;
+
+    /**
+     * Prepares benchmark state.
+     *
+     * @since v1.1
+     */
+    @Setup
+    public void setup() {
+        procedure = new StandardProcedure("bench_procedure");
+        for (int i = 1; i <= parametersNumber; i++) {
+            procedure.in(i, (Object) ("value " + i));
+        }
+    }
+
+    /**
+     * Measures subroutine text view generation.
+     *
+     * @return subroutine text view.
+     *
+     * @since v1.1
+     */
+    @Benchmark
+    public String print() {
+        return procedure.print();
+    }
+}
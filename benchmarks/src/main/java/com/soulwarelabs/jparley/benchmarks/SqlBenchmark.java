@@ -0,0 +1,105 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     SqlBenchmark.java
+ * Folder:   /.../com/soulwarelabs/jparley/benchmarks
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.soulwarelabs.jparley.core.StandardFunction;
+import com.soulwarelabs.jparley.core.StandardProcedure;
+
+/**
+ * Callable SQL statement string generation benchmark.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SqlBenchmark {
+
+    private static class Function extends StandardFunction {
+
+        public Function() {
+            super("bench_function", java.sql.Types.INTEGER);
+        }
+
+        public String sql(int parametersNumber) {
+            return createSql(getName(), parametersNumber);
+        }
+    }
+
+    private static class Procedure extends StandardProcedure {
+
+        public Procedure() {
+            super("bench_procedure");
+        }
+
+        public String sql(int parametersNumber) {
+            return createSql(getName(), parametersNumber);
+        }
+    }
+
+    @Param({"0", "5", "50"})
+    private int parametersNumber;
+
+    private final Function function = new Function();
+    private final Procedure procedure = new Procedure();
+
+    /**
+     * Measures function statement string generation.
+     *
+     * @return SQL statement string.
+     *
+     * @since v1.1
+     */
+    @Benchmark
+    public String function() {
+        return function.sql(parametersNumber + 1);
+    }
+
+    /**
+     * Measures procedure statement string generation.
+     *
+     * @return SQL statement string.
+     *
+     * @since v1.1
+     */
+    @Benchmark
+    public String procedure() {
+        return procedure.sql(parametersNumber);
+    }
+}
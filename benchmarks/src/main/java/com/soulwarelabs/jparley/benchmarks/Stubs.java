@@ -0,0 +1,141 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     Stubs.java
+ * Folder:   /.../com/soulwarelabs/jparley/benchmarks
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.benchmarks;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import com.soulwarelabs.jcommons.sql.ConnectionPool;
+
+/**
+ * In-memory JDBC stand-ins used by benchmarks.
+ *
+ * <p>Stub statements accept any parameters and return default values, so
+ * benchmarks measure jParley overhead only.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public final class Stubs {
+
+    private static final InvocationHandler STATEMENT = new InvocationHandler() {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] arguments) {
+            return defaultValue(method.getReturnType());
+        }
+    };
+
+    private static final InvocationHandler CONNECTION = new InvocationHandler() {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] arguments) {
+            String name = method.getName();
+            if (name.equals("prepareCall")) {
+                return createStatement();
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (name.equals("equals")) {
+                return proxy == arguments[0];
+            }
+            return defaultValue(method.getReturnType());
+        }
+    };
+
+    /**
+     * Creates a new stub SQL database connection.
+     *
+     * @return SQL database connection.
+     *
+     * @since v1.1
+     */
+    public static Connection createConnection() {
+        return (Connection) Proxy.newProxyInstance(Stubs.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, CONNECTION);
+    }
+
+    /**
+     * Creates a new stub SQL database connection pool.
+     *
+     * @return SQL database connection pool.
+     *
+     * @since v1.1
+     */
+    public static ConnectionPool createPool() {
+        return new ConnectionPool() {
+
+            @Override
+            public Connection getConnection() throws SQLException {
+                return createConnection();
+            }
+        };
+    }
+
+    private static CallableStatement createStatement() {
+        return (CallableStatement) Proxy.newProxyInstance(
+                Stubs.class.getClassLoader(),
+                new Class<?>[] {CallableStatement.class}, STATEMENT);
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == double.class) {
+            return 0d;
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == int[].class) {
+            return new int[0];
+        }
+        return null;
+    }
+
+    private Stubs() {
+    }
+}
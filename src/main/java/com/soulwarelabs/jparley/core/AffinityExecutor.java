@@ -0,0 +1,372 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     AffinityExecutor.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.03, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.soulwarelabs.jcommons.sql.ConnectionPool;
+
+/**
+ * SQL subroutines executor with thread-affine connections.
+ *
+ * <p>Each thread leases a pooled connection on its first call and keeps it
+ * with all its cached statements and session settings until the lease is
+ * released, so hot threads always run on the same warm connection. New
+ * leases pre-prepare all registered routines, and spare connections with
+ * prepared routines can be warmed up on startup to be leased by threads
+ * on their first calls. The connection pool has to provide at least one
+ * connection per calling thread. Leases of terminated threads are
+ * reclaimed whenever a new lease is taken, and closing the executor
+ * invalidates the leases of all threads. A leased connection is
+ * validated before its reuse if its last call has failed, and is
+ * replaced if it is no longer valid.
+ *
+ * @see StandardExecutor
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class AffinityExecutor extends StandardExecutor {
+
+    private static class Lease {
+
+        private final Connection connection;
+        private final int generation;
+        private final WeakReference<Thread> owner;
+        private boolean pending;
+
+        public Lease(Connection connection, int generation) {
+            this.connection = connection;
+            this.generation = generation;
+            this.owner = new WeakReference<Thread>(Thread.currentThread());
+        }
+
+        public boolean isAlive() {
+            Thread thread = owner.get();
+            return thread != null && thread.isAlive();
+        }
+    }
+
+    private static final int VALIDATION_TIMEOUT = 5;
+
+    private transient volatile int generation;
+    private transient ThreadLocal<Lease> lease;
+    private transient Set<Lease> leases;
+    private final List<String> routines;
+    private transient Queue<Connection> spares;
+
+    /**
+     * Creates a new instance of affinity executor.
+     *
+     * @param pool SQL database connection pool.
+     *
+     * @see ConnectionPool
+     *
+     * @since v1.1
+     */
+    public AffinityExecutor(ConnectionPool pool) {
+        this(pool, null, null);
+    }
+
+    /**
+     * Creates a new instance of affinity executor.
+     *
+     * @param pool SQL database connection pool.
+     * @param preInterceptor SQL pre-execution interceptor (optional).
+     * @param postInterceptor SQL post-execution interceptor (optional).
+     *
+     * @see ConnectionPool
+     * @see Interceptor
+     *
+     * @since v1.1
+     */
+    public AffinityExecutor(ConnectionPool pool, Interceptor preInterceptor,
+            Interceptor postInterceptor) {
+        super(pool, preInterceptor, postInterceptor);
+        this.routines = new CopyOnWriteArrayList<String>();
+        initialize();
+    }
+
+    /**
+     * Gets SQL calls of registered routines.
+     *
+     * @return SQL calls.
+     *
+     * @since v1.1
+     */
+    public List<String> getRoutines() {
+        return Collections.unmodifiableList(routines);
+    }
+
+    /**
+     * Releases connections leased by all threads and spare connections.
+     *
+     * <p>Intended for shutdown, when no calls are in progress. Leases kept
+     * by other threads are invalidated, so their next calls take new
+     * leases.
+     *
+     * @throws SQLException if error occurs while releasing connections.
+     *
+     * @since v1.1
+     */
+    public void close() throws SQLException {
+        List<Lease> released;
+        synchronized (leases) {
+            released = new ArrayList<Lease>(leases);
+            leases.clear();
+            generation++;
+        }
+        lease.remove();
+        List<Connection> closing = new ArrayList<Connection>();
+        for (Lease closed : released) {
+            closing.add(closed.connection);
+        }
+        Connection spare;
+        while ((spare = spares.poll()) != null) {
+            closing.add(spare);
+        }
+        SQLException error = null;
+        for (Connection connection : closing) {
+            try {
+                super.close(connection);
+            } catch (SQLException e) {
+                if (error == null) {
+                    error = e;
+                } else {
+                    error.setNextException(e);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Registers specified call plan for warm-up.
+     *
+     * @param plan SQL subroutine call plan.
+     *
+     * @see Plan
+     *
+     * @since v1.1
+     */
+    public void register(Plan plan) {
+        routines.add(plan.getSql());
+    }
+
+    /**
+     * Registers specified subroutine with its current parameters for
+     * warm-up.
+     *
+     * @param subroutine SQL subroutine.
+     *
+     * @see StandardSubroutine
+     *
+     * @since v1.1
+     */
+    public void register(StandardSubroutine subroutine) {
+        routines.add(subroutine.createSql());
+    }
+
+    /**
+     * Releases connection leased by current thread.
+     *
+     * @throws SQLException if error occurs while releasing the connection.
+     *
+     * @since v1.1
+     */
+    public void release() throws SQLException {
+        Lease current = lease.get();
+        if (current != null) {
+            lease.remove();
+            if (leases.remove(current)) {
+                super.close(current.connection);
+            }
+        }
+    }
+
+    /**
+     * Takes specified number of spare connections from the connection pool
+     * and prepares all registered routines on them.
+     *
+     * <p>The prepared statements are kept in the statement cache, and the
+     * spare connections are leased by threads on their first calls.
+     *
+     * @param connections number of connections.
+     * @throws SQLException if error occurs while warming up.
+     *
+     * @since v1.1
+     */
+    public void warmUp(int connections) throws SQLException {
+        for (int i = 0; i < connections; i++) {
+            spares.add(prepare(super.open()));
+        }
+    }
+
+    @Override
+    protected void after(Connection connection) throws SQLException {
+        super.after(connection);
+        Lease current = lease.get();
+        if (current != null && current.connection == connection) {
+            current.pending = false;
+        }
+    }
+
+    @Override
+    protected void before(Connection connection) throws SQLException {
+        Lease current = lease.get();
+        if (current != null && current.connection == connection) {
+            current.pending = true;
+        }
+        super.before(connection);
+    }
+
+    @Override
+    protected void close(Connection connection) throws SQLException {
+        // the connection is kept leased by current thread
+    }
+
+    @Override
+    protected boolean isHolding() {
+        return true;
+    }
+
+    @Override
+    protected Connection open() throws SQLException {
+        Lease current = lease.get();
+        if (current != null) {
+            if (current.generation == generation && isValid(current)) {
+                return current.connection;
+            }
+            lease.remove();
+            if (leases.remove(current)) {
+                discard(current.connection);
+            }
+        }
+        reclaim();
+        Connection connection = spares.poll();
+        if (connection == null) {
+            connection = prepare(super.open());
+        }
+        synchronized (leases) {
+            current = new Lease(connection, generation);
+            leases.add(current);
+        }
+        lease.set(current);
+        return connection;
+    }
+
+    private void discard(Connection connection) {
+        try {
+            super.close(connection);
+        } catch (SQLException e) {
+            // the broken connection is discarded
+        }
+    }
+
+    private void initialize() {
+        lease = new ThreadLocal<Lease>();
+        leases = Collections.synchronizedSet(new HashSet<Lease>());
+        spares = new ConcurrentLinkedQueue<Connection>();
+        setCache(new StatementCache());
+    }
+
+    private boolean isValid(Lease current) throws SQLException {
+        if (current.connection.isClosed()) {
+            return false;
+        }
+        if (!current.pending) {
+            return true;
+        }
+        current.pending = false;
+        try {
+            return current.connection.isValid(VALIDATION_TIMEOUT);
+        } catch (AbstractMethodError e) {
+            // driver predates JDBC 4.0, so the connection is not trusted
+            return false;
+        }
+    }
+
+    private Connection prepare(Connection connection) throws SQLException {
+        try {
+            StatementCache statementCache = getCache();
+            for (String sql : routines) {
+                if (statementCache != null) {
+                    statementCache.prepare(connection, sql);
+                } else {
+                    connection.prepareCall(sql).close();
+                }
+            }
+        } catch (SQLException e) {
+            super.close(connection);
+            throw e;
+        }
+        return connection;
+    }
+
+    private void readObject(ObjectInputStream input) throws IOException,
+            ClassNotFoundException {
+        input.defaultReadObject();
+        initialize();
+    }
+
+    private void reclaim() {
+        List<Lease> dead = new ArrayList<Lease>();
+        synchronized (leases) {
+            Iterator<Lease> iterator = leases.iterator();
+            while (iterator.hasNext()) {
+                Lease leased = iterator.next();
+                if (!leased.isAlive()) {
+                    iterator.remove();
+                    dead.add(leased);
+                }
+            }
+        }
+        for (Lease leased : dead) {
+            try {
+                super.close(leased.connection);
+            } catch (SQLException e) {
+                // the connection of a terminated thread is discarded
+            }
+        }
+    }
+}
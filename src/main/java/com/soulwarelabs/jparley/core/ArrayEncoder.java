@@ -0,0 +1,200 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     ArrayEncoder.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.01, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.soulwarelabs.jparley.Converter;
+
+/**
+ * SQL array input parameter encoder.
+ *
+ * <p>Converts Java collections, object arrays and primitive arrays into
+ * SQL arrays created by the connection, so a whole column of values is
+ * passed with a single call. Elements can be encoded as well, e.g. with
+ * {@link StructEncoder} for table-valued parameters. Requires a JDBC 4.0
+ * driver.
+ *
+ * <p>Arrays created while a subroutine is executed are freed once the
+ * execution is finished; null values are bound as typed SQL nulls.
+ *
+ * @see StandardSubroutine#array(int, String, Object)
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class ArrayEncoder implements Converter, Serializable {
+
+    private static class Tracker {
+
+        private boolean active;
+        private final List<java.sql.Array> arrays;
+
+        public Tracker() {
+            this.arrays = new ArrayList<java.sql.Array>();
+        }
+    }
+
+    private static final ThreadLocal<Tracker> TRACKER =
+            new ThreadLocal<Tracker>() {
+
+        @Override
+        protected Tracker initialValue() {
+            return new Tracker();
+        }
+    };
+
+    private final Converter elementEncoder;
+    private final String type;
+
+    /**
+     * Creates a new instance of array encoder.
+     *
+     * @param type SQL array elements type name.
+     *
+     * @since v1.1
+     */
+    public ArrayEncoder(String type) {
+        this(type, null);
+    }
+
+    /**
+     * Creates a new instance of array encoder.
+     *
+     * @param type SQL array elements type name.
+     * @param elementEncoder SQL array elements encoder (optional).
+     *
+     * @see Converter
+     *
+     * @since v1.1
+     */
+    public ArrayEncoder(String type, Converter elementEncoder) {
+        this.elementEncoder = elementEncoder;
+        this.type = type;
+    }
+
+    /**
+     * Gets SQL array elements encoder (optional).
+     *
+     * @return SQL array elements encoder (optional).
+     *
+     * @see Converter
+     *
+     * @since v1.1
+     */
+    public Converter getElementEncoder() {
+        return elementEncoder;
+    }
+
+    /**
+     * Gets SQL array elements type name.
+     *
+     * @return type name.
+     *
+     * @since v1.1
+     */
+    public String getType() {
+        return type;
+    }
+
+    @Override
+    public Object perform(Connection connection, Object value)
+            throws SQLException {
+        if (value == null) {
+            return null;
+        }
+        Object[] elements = toArray(value);
+        if (elementEncoder != null) {
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = elementEncoder.perform(connection, elements[i]);
+            }
+        }
+        java.sql.Array array = connection.createArrayOf(type, elements);
+        Tracker tracker = TRACKER.get();
+        if (tracker.active) {
+            tracker.arrays.add(array);
+        }
+        return array;
+    }
+
+    static String getTypeName(Converter encoder) {
+        if (encoder instanceof ArrayEncoder) {
+            return ((ArrayEncoder) encoder).getType();
+        }
+        if (encoder instanceof StructEncoder) {
+            return ((StructEncoder) encoder).getStruct();
+        }
+        return null;
+    }
+
+    static void release() {
+        Tracker tracker = TRACKER.get();
+        tracker.active = false;
+        for (java.sql.Array array : tracker.arrays) {
+            try {
+                array.free();
+            } catch (SQLException e) {
+                // the array is not used after the execution anymore
+            }
+        }
+        tracker.arrays.clear();
+    }
+
+    static Object[] toArray(Object value) throws SQLException {
+        if (value instanceof Collection<?>) {
+            return ((Collection<?>) value).toArray();
+        }
+        if (value instanceof Object[]) {
+            return ((Object[]) value).clone();
+        }
+        if (!value.getClass().isArray()) {
+            throw new SQLException(String.format(
+                    "not an array or collection: %s", value.getClass()));
+        }
+        Object[] elements = new Object[Array.getLength(value)];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = Array.get(value, i);
+        }
+        return elements;
+    }
+
+    static boolean track() {
+        Tracker tracker = TRACKER.get();
+        if (tracker.active) {
+            return false;
+        }
+        tracker.active = true;
+        return true;
+    }
+}
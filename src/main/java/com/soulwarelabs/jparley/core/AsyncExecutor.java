@@ -0,0 +1,222 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     AsyncExecutor.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.01, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+import com.soulwarelabs.jparley.Executor;
+import com.soulwarelabs.jparley.Function;
+import com.soulwarelabs.jparley.Subroutine;
+
+/**
+ * Asynchronous SQL subroutines executor.
+ *
+ * <p>Delegates calls to an underlying executor on worker threads and
+ * limits the number of calls in flight. Callers are blocked once the limit
+ * is reached until one of the calls in flight is completed or cancelled.
+ *
+ * @see Executor
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class AsyncExecutor {
+
+    private final Executor executor;
+    private final int limit;
+    private final boolean owner;
+    private final Semaphore permits;
+    private final ExecutorService workers;
+
+    /**
+     * Creates a new instance of asynchronous executor.
+     *
+     * <p>Worker threads are created on demand with specified thread factory,
+     * e.g. a virtual threads factory, and are owned by the executor.
+     *
+     * @param executor SQL subroutines executor.
+     * @param factory worker threads factory.
+     * @param limit maximum number of calls in flight.
+     *
+     * @see Executor
+     *
+     * @since v1.1
+     */
+    public AsyncExecutor(Executor executor, ThreadFactory factory,
+            int limit) {
+        this(executor, Executors.newCachedThreadPool(factory), limit, true);
+    }
+
+    /**
+     * Creates a new instance of asynchronous executor.
+     *
+     * @param executor SQL subroutines executor.
+     * @param workers worker threads service.
+     * @param limit maximum number of calls in flight.
+     *
+     * @see Executor
+     *
+     * @since v1.1
+     */
+    public AsyncExecutor(Executor executor, ExecutorService workers,
+            int limit) {
+        this(executor, workers, limit, false);
+    }
+
+    private AsyncExecutor(Executor executor, ExecutorService workers,
+            int limit, boolean owner) {
+        this.executor = executor;
+        this.limit = limit;
+        this.owner = owner;
+        this.permits = new Semaphore(limit);
+        this.workers = workers;
+    }
+
+    /**
+     * Gets underlying SQL subroutines executor.
+     *
+     * @return SQL subroutines executor.
+     *
+     * @see Executor
+     *
+     * @since v1.1
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Gets number of calls in flight.
+     *
+     * @return number of calls.
+     *
+     * @since v1.1
+     */
+    public int getInFlight() {
+        return limit - permits.availablePermits();
+    }
+
+    /**
+     * Gets maximum number of calls in flight.
+     *
+     * @return maximum number of calls.
+     *
+     * @since v1.1
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Executes specified SQL stored subroutines asynchronously.
+     *
+     * @param subroutines SQL subroutines to be executed.
+     * @return execution result.
+     * @throws InterruptedException if interrupted while waiting for the
+     *         calls in flight limit.
+     *
+     * @see Subroutine
+     *
+     * @since v1.1
+     */
+    public Future<Void> call(final Subroutine ... subroutines)
+            throws InterruptedException {
+        return submit(new Callable<Void>() {
+
+            @Override
+            public Void call() throws Exception {
+                executor.call(subroutines);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Executes specified SQL stored function asynchronously.
+     *
+     * @param function SQL function to be executed.
+     * @param parameters function input parameters.
+     * @return function result.
+     * @throws InterruptedException if interrupted while waiting for the
+     *         calls in flight limit.
+     *
+     * @see Function
+     *
+     * @since v1.1
+     */
+    public Future<Object> call(final Function function,
+            final Object ... parameters) throws InterruptedException {
+        return submit(new Callable<Object>() {
+
+            @Override
+            public Object call() throws Exception {
+                return executor.call(function, parameters);
+            }
+        });
+    }
+
+    /**
+     * Shuts the executor down.
+     *
+     * <p>Worker threads service is shut down only if it was created by the
+     * executor.
+     *
+     * @since v1.1
+     */
+    public void shutdown() {
+        if (owner) {
+            workers.shutdown();
+        }
+    }
+
+    private <T> Future<T> submit(Callable<T> task)
+            throws InterruptedException {
+        permits.acquire();
+        FutureTask<T> future = new FutureTask<T>(task) {
+
+            @Override
+            protected void done() {
+                permits.release();
+            }
+        };
+        try {
+            workers.execute(future);
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+        return future;
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     BulkheadExecutor.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import com.soulwarelabs.jparley.Executor;
+import com.soulwarelabs.jparley.Function;
+import com.soulwarelabs.jparley.Subroutine;
+
+/**
+ * SQL subroutines executor isolating routines with bulkheads.
+ *
+ * <p>Each routine name (or a group of routine names) has its own
+ * concurrency limiter, so a slow routine can only hold a bounded number of
+ * pooled connections. Callers over the limit fail fast or wait for the
+ * specified timeout.
+ *
+ * @see Executor
+ * @see Limiter
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class BulkheadExecutor implements Executor {
+
+    private final Executor executor;
+    private final Map<String, String> groups;
+    private final ConcurrentMap<String, Limiter> limiters;
+    private final Limiter prototype;
+    private long timeout;
+
+    /**
+     * Creates a new instance of bulkhead executor.
+     *
+     * @param executor SQL subroutines executor.
+     * @param prototype limiter which settings are used for new bulkheads.
+     *
+     * @see Executor
+     * @see Limiter
+     *
+     * @since v1.1
+     */
+    public BulkheadExecutor(Executor executor, Limiter prototype) {
+        this.executor = executor;
+        this.groups = new ConcurrentHashMap<String, String>();
+        this.limiters = new ConcurrentHashMap<String, Limiter>();
+        this.prototype = prototype;
+    }
+
+    /**
+     * Gets underlying SQL subroutines executor.
+     *
+     * @return SQL subroutines executor.
+     *
+     * @see Executor
+     *
+     * @since v1.1
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Gets concurrency limiter of specified bulkhead.
+     *
+     * @param group routine name or group name.
+     * @return concurrency limiter.
+     *
+     * @see Limiter
+     *
+     * @since v1.1
+     */
+    public Limiter getLimiter(String group) {
+        String key = String.valueOf(group);
+        Limiter limiter = limiters.get(key);
+        if (limiter == null) {
+            Limiter created = prototype.copy();
+            limiter = limiters.putIfAbsent(key, created);
+            limiter = limiter != null ? limiter : created;
+        }
+        return limiter;
+    }
+
+    /**
+     * Sets a dedicated concurrency limiter of specified bulkhead.
+     *
+     * @param group routine name or group name.
+     * @param limiter concurrency limiter.
+     *
+     * @see Limiter
+     *
+     * @since v1.1
+     */
+    public void setLimiter(String group, Limiter limiter) {
+        limiters.put(String.valueOf(group), limiter);
+    }
+
+    /**
+     * Gets wait timeout of callers over the limit.
+     *
+     * @return timeout in nanoseconds (zero for fail-fast).
+     *
+     * @since v1.1
+     */
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Sets a new wait timeout of callers over the limit.
+     *
+     * @param timeout wait timeout (zero for fail-fast).
+     * @param unit timeout unit.
+     *
+     * @since v1.1
+     */
+    public void setTimeout(long timeout, TimeUnit unit) {
+        this.timeout = unit.toNanos(timeout);
+    }
+
+    @Override
+    public void call(final Subroutine ... subroutines) throws SQLException {
+        Set<String> names = new TreeSet<String>();
+        for (Subroutine subroutine : subroutines) {
+            names.add(resolve(subroutine.getName()));
+        }
+        execute(names.toArray(new String[names.size()]),
+                new Callable<Object>() {
+
+            @Override
+            public Object call() throws Exception {
+                executor.call(subroutines);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Object call(final Function function, final Object ... parameters)
+            throws SQLException {
+        String[] names = {resolve(function.getName())};
+        return execute(names, new Callable<Object>() {
+
+            @Override
+            public Object call() throws Exception {
+                return executor.call(function, parameters);
+            }
+        });
+    }
+
+    /**
+     * Assigns specified routine to a bulkhead group.
+     *
+     * @param name routine name.
+     * @param group group name (optional).
+     *
+     * @since v1.1
+     */
+    public void group(String name, String group) {
+        if (group != null) {
+            groups.put(String.valueOf(name), group);
+        } else {
+            groups.remove(String.valueOf(name));
+        }
+    }
+
+    private Object execute(String[] names, Callable<Object> task)
+            throws SQLException {
+        Limiter[] acquired = new Limiter[names.length];
+        try {
+            for (int i = 0; i < names.length; i++) {
+                Limiter limiter = getLimiter(names[i]);
+                if (!limiter.acquire(timeout)) {
+                    throw new SQLException(String.format(
+                            "bulkhead is full: %s", names[i]));
+                }
+                acquired[i] = limiter;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(acquired);
+            SQLException error = new SQLException("interrupted while waiting");
+            error.initCause(e);
+            throw error;
+        } catch (SQLException e) {
+            cancel(acquired);
+            throw e;
+        }
+        long started = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = task.call();
+            failed = false;
+            return result;
+        } catch (SQLException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            SQLException error = new SQLException("call failed");
+            error.initCause(e);
+            throw error;
+        } finally {
+            release(acquired, System.nanoTime() - started, failed);
+        }
+    }
+
+    private void cancel(Limiter[] acquired) {
+        for (Limiter limiter : acquired) {
+            if (limiter != null) {
+                limiter.cancel();
+            }
+        }
+    }
+
+    private void release(Limiter[] acquired, long latency, boolean failed) {
+        for (Limiter limiter : acquired) {
+            if (limiter != null) {
+                limiter.release(latency, failed);
+            }
+        }
+    }
+
+    private String resolve(String name) {
+        String group = groups.get(String.valueOf(name));
+        return group != null ? group : String.valueOf(name);
+    }
+}
@@ -0,0 +1,407 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     CachingExecutor.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.02, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.soulwarelabs.jparley.Executor;
+import com.soulwarelabs.jparley.Function;
+import com.soulwarelabs.jparley.Subroutine;
+
+/**
+ * SQL subroutines executor caching results of deterministic functions.
+ *
+ * <p>Function results are cached by function name and input parameters
+ * with time-to-live and size-bounded approximately least recently used
+ * eviction. Eviction drops the least recently used eighth of the cache at
+ * once, amortizing its cost over the following insertions, and runs in
+ * a single thread at a time. Cache hits do not take any lock. Concurrent
+ * misses of the same key are loaded with a single call to the underlying
+ * executor; a load overlapping an invalidation of its key is not cached.
+ * Subroutine calls are never cached.
+ *
+ * @see StandardExecutor
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class CachingExecutor implements Executor {
+
+    private static class Key {
+
+        private final int hash;
+        private final String name;
+        private final Object[] parameters;
+
+        public Key(String name, Object[] parameters) {
+            this.name = name;
+            this.parameters = parameters != null ? parameters.clone()
+                    : new Object[0];
+            this.hash = 31 * String.valueOf(name).hashCode()
+                    + Arrays.deepHashCode(this.parameters);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) object;
+            return hash == key.hash
+                    && (name == null ? key.name == null : name.equals(key.name))
+                    && Arrays.deepEquals(parameters, key.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        public boolean isNamed(String name) {
+            return name == null ? this.name == null : name.equals(this.name);
+        }
+    }
+
+    private static class Load extends FutureTask<Object> {
+
+        private volatile boolean stale;
+
+        public Load(Callable<Object> loader) {
+            super(loader);
+        }
+    }
+
+    private static class Result {
+
+        private final long expiration;
+        private volatile long used;
+        private final Object value;
+
+        public Result(Object value, long expiration) {
+            this.expiration = expiration;
+            this.used = System.nanoTime();
+            this.value = value;
+        }
+    }
+
+    private final AtomicBoolean evicting;
+    private final StandardExecutor executor;
+    private final AtomicLong hits;
+    private final ConcurrentMap<Key, Load> loads;
+    private final AtomicLong misses;
+    private final ConcurrentMap<Key, Result> results;
+    private final int size;
+    private final long ttl;
+
+    /**
+     * Creates a new instance of caching executor.
+     *
+     * @param executor standard SQL subroutines executor.
+     * @param size maximum number of cached results.
+     * @param ttl cached result time-to-live (zero for no expiration).
+     * @param unit time-to-live unit.
+     *
+     * @see StandardExecutor
+     *
+     * @since v1.1
+     */
+    public CachingExecutor(StandardExecutor executor, int size, long ttl,
+            TimeUnit unit) {
+        this.evicting = new AtomicBoolean();
+        this.executor = executor;
+        this.hits = new AtomicLong();
+        this.loads = new ConcurrentHashMap<Key, Load>();
+        this.misses = new AtomicLong();
+        this.results = new ConcurrentHashMap<Key, Result>();
+        this.size = size;
+        this.ttl = unit.toNanos(ttl);
+    }
+
+    /**
+     * Gets underlying SQL subroutines executor.
+     *
+     * @return standard SQL subroutines executor.
+     *
+     * @see StandardExecutor
+     *
+     * @since v1.1
+     */
+    public StandardExecutor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Gets number of cache hits.
+     *
+     * @return number of hits.
+     *
+     * @since v1.1
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets number of cache misses.
+     *
+     * @return number of misses.
+     *
+     * @since v1.1
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Gets number of cached results.
+     *
+     * @return number of results.
+     *
+     * @since v1.1
+     */
+    public int getSize() {
+        return results.size();
+    }
+
+    @Override
+    public void call(Subroutine ... subroutines) throws SQLException {
+        executor.call(subroutines);
+    }
+
+    @Override
+    public Object call(final Function function, final Object ... parameters)
+            throws SQLException {
+        return load(new Key(function.getName(), parameters),
+                new Callable<Object>() {
+
+            @Override
+            public Object call() throws Exception {
+                return executor.call(function, parameters);
+            }
+        });
+    }
+
+    /**
+     * Executes specified SQL stored function caching its result.
+     *
+     * @param function SQL function descriptor.
+     * @param parameters function input parameters.
+     * @return function result.
+     * @throws SQLException if error occurs while executing the function.
+     *
+     * @see FunctionDescriptor
+     *
+     * @since v1.1
+     */
+    public Object call(final FunctionDescriptor function,
+            final Object ... parameters) throws SQLException {
+        return load(new Key(function.getName(), parameters),
+                new Callable<Object>() {
+
+            @Override
+            public Object call() throws Exception {
+                return executor.call(function, parameters);
+            }
+        });
+    }
+
+    /**
+     * Removes all cached results.
+     *
+     * @since v1.1
+     */
+    public void invalidate() {
+        for (Load load : loads.values()) {
+            load.stale = true;
+        }
+        results.clear();
+    }
+
+    /**
+     * Removes all cached results of specified function.
+     *
+     * @param name function name.
+     *
+     * @since v1.1
+     */
+    public void invalidate(String name) {
+        for (Map.Entry<Key, Load> entry : loads.entrySet()) {
+            if (entry.getKey().isNamed(name)) {
+                entry.getValue().stale = true;
+            }
+        }
+        Iterator<Key> keys = results.keySet().iterator();
+        while (keys.hasNext()) {
+            if (keys.next().isNamed(name)) {
+                keys.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes cached result of specified function call.
+     *
+     * @param name function name.
+     * @param parameters function input parameters.
+     *
+     * @since v1.1
+     */
+    public void invalidate(String name, Object ... parameters) {
+        Key key = new Key(name, parameters);
+        Load load = loads.get(key);
+        if (load != null) {
+            load.stale = true;
+        }
+        results.remove(key);
+    }
+
+    private Object await(FutureTask<Object> task) throws SQLException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            SQLException error = new SQLException("interrupted while loading");
+            error.initCause(e);
+            throw error;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            SQLException error = new SQLException("function call failed");
+            error.initCause(cause);
+            throw error;
+        }
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int count = results.size() - size;
+            if (count <= 0) {
+                return;
+            }
+            count += size / 8;
+            long[] stamps = new long[results.size()];
+            int length = 0;
+            for (Result result : results.values()) {
+                if (length == stamps.length) {
+                    break;
+                }
+                stamps[length++] = result.used;
+            }
+            if (length == 0) {
+                return;
+            }
+            Arrays.sort(stamps, 0, length);
+            long threshold = stamps[Math.min(count, length) - 1];
+            Iterator<Map.Entry<Key, Result>> entries =
+                    results.entrySet().iterator();
+            while (count > 0 && entries.hasNext()) {
+                Map.Entry<Key, Result> entry = entries.next();
+                if (entry.getValue().used - threshold <= 0
+                        && results.remove(entry.getKey(), entry.getValue())) {
+                    count--;
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private Result find(Key key) {
+        Result result = results.get(key);
+        if (result == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        if (ttl > 0 && now - result.expiration > 0) {
+            results.remove(key, result);
+            return null;
+        }
+        result.used = now;
+        return result;
+    }
+
+    private Object load(Key key, Callable<Object> loader) throws SQLException {
+        Result result = find(key);
+        if (result != null) {
+            hits.incrementAndGet();
+            return result.value;
+        }
+        misses.incrementAndGet();
+        Load task = new Load(loader);
+        FutureTask<Object> running = loads.putIfAbsent(key, task);
+        if (running == null) {
+            try {
+                task.run();
+                store(key, task);
+            } catch (ExecutionException e) {
+                // reported by awaiting the task below
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                loads.remove(key, task);
+            }
+            running = task;
+        }
+        return await(running);
+    }
+
+    private void store(Key key, Load task) throws ExecutionException,
+            InterruptedException {
+        if (task.stale) {
+            return;
+        }
+        Result result = new Result(task.get(), System.nanoTime() + ttl);
+        results.put(key, result);
+        if (task.stale) {
+            results.remove(key, result);
+            return;
+        }
+        if (results.size() > size) {
+            evict();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     CircuitBreaker.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.01, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+/**
+ * SQL subroutine circuit breaker.
+ *
+ * <p>Opens after a number of consecutive failures and rejects calls while
+ * open. After the open time elapses a single probing call is permitted
+ * (half-open state): its success closes the breaker, its failure opens it
+ * again.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class CircuitBreaker {
+
+    /**
+     * Call rejected by the open breaker.
+     *
+     * @since v1.1
+     */
+    public static final int REJECTED = 0;
+
+    /**
+     * Call permitted by the closed breaker.
+     *
+     * @since v1.1
+     */
+    public static final int PERMITTED = 1;
+
+    /**
+     * Probing call permitted by the half-open breaker.
+     *
+     * @since v1.1
+     */
+    public static final int PROBE = 2;
+
+    private int failures;
+    private final int failuresThreshold;
+    private long openedAt;
+    private boolean open;
+    private final long openTime;
+    private boolean probing;
+
+    /**
+     * Creates a new instance of circuit breaker.
+     *
+     * @param failuresThreshold number of consecutive failures opening the
+     *        breaker.
+     * @param openTime time in nanoseconds before a probing call is
+     *        permitted.
+     *
+     * @since v1.1
+     */
+    public CircuitBreaker(int failuresThreshold, long openTime) {
+        this.failuresThreshold = failuresThreshold;
+        this.openTime = openTime;
+    }
+
+    /**
+     * Checks if the breaker is open.
+     *
+     * @return true if the breaker is open.
+     *
+     * @since v1.1
+     */
+    public synchronized boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Requests a permission for a new call.
+     *
+     * <p>The returned permission should be passed back when the call
+     * completes, so that only the probing call ends the half-open state.
+     *
+     * @return call permission ({@link #REJECTED}, {@link #PERMITTED} or
+     *         {@link #PROBE}).
+     *
+     * @since v1.1
+     */
+    public synchronized int acquire() {
+        if (!open) {
+            return PERMITTED;
+        }
+        if (probing || System.nanoTime() - openedAt < openTime) {
+            return REJECTED;
+        }
+        probing = true;
+        return PROBE;
+    }
+
+    /**
+     * Returns an unused call permission.
+     *
+     * @param permission call permission.
+     *
+     * @since v1.1
+     */
+    public synchronized void cancel(int permission) {
+        if (permission == PROBE) {
+            probing = false;
+        }
+    }
+
+    /**
+     * Registers a failed call.
+     *
+     * @param permission call permission.
+     *
+     * @since v1.1
+     */
+    public synchronized void failure(int permission) {
+        failures++;
+        if (permission == PROBE || failures >= failuresThreshold) {
+            open = true;
+            openedAt = System.nanoTime();
+        }
+        if (permission == PROBE) {
+            probing = false;
+        }
+    }
+
+    /**
+     * Registers a successful call.
+     *
+     * @param permission call permission.
+     *
+     * @since v1.1
+     */
+    public synchronized void success(int permission) {
+        failures = 0;
+        open = false;
+        if (permission == PROBE) {
+            probing = false;
+        }
+    }
+}
@@ -0,0 +1,369 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     Coalescer.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.03, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.sql.BatchUpdateException;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro-batching front end of SQL subroutine calls.
+ *
+ * <p>Collects concurrent single calls of batchable subroutines with the
+ * same SQL call over a short time window or up to the batch size and
+ * executes them as a single SQL batch on a single connection. Each caller
+ * gets its own result: with a partially failed batch only the callers of
+ * the failed commands get the error. Results are completed only after the
+ * post-execution interception of the executor, so a failed interception
+ * fails all calls of the batch. Batches flushed by their time window are
+ * executed by the worker threads, so the scheduler only triggers flushes.
+ * Submitted subroutines must not be modified until their calls are
+ * completed.
+ *
+ * @see StandardExecutor
+ * @see StandardSubroutine#isBatchable()
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class Coalescer {
+
+    private static class Call extends FutureTask<Void> {
+
+        private static final Callable<Void> NOTHING = new Callable<Void>() {
+
+            @Override
+            public Void call() throws Exception {
+                return null;
+            }
+        };
+
+        private SQLException error;
+        private final StandardSubroutine subroutine;
+
+        public Call(StandardSubroutine subroutine) {
+            super(NOTHING);
+            this.subroutine = subroutine;
+        }
+
+        public void complete() {
+            if (error != null) {
+                setException(error);
+            } else {
+                set(null);
+            }
+        }
+
+        public void fail(SQLException error) {
+            if (this.error == null) {
+                this.error = error;
+            }
+        }
+    }
+
+    private final StandardExecutor executor;
+    private final Map<String, List<Call>> pending;
+    private final ScheduledExecutorService scheduler;
+    private final int size;
+    private final long window;
+    private final Executor workers;
+
+    /**
+     * Creates a new instance of coalescer.
+     *
+     * @param executor SQL subroutines executor.
+     * @param scheduler scheduler of window flushes.
+     * @param workers worker threads executing window flushes.
+     * @param size maximum number of calls in a batch.
+     * @param window maximum time a call waits for its batch.
+     * @param unit window time unit.
+     *
+     * @see StandardExecutor
+     *
+     * @since v1.1
+     */
+    public Coalescer(StandardExecutor executor,
+            ScheduledExecutorService scheduler, Executor workers, int size,
+            long window, TimeUnit unit) {
+        this.executor = executor;
+        this.pending = new HashMap<String, List<Call>>();
+        this.scheduler = scheduler;
+        this.size = size;
+        this.window = unit.toNanos(window);
+        this.workers = workers;
+    }
+
+    /**
+     * Gets underlying SQL subroutines executor.
+     *
+     * @return SQL subroutines executor.
+     *
+     * @see StandardExecutor
+     *
+     * @since v1.1
+     */
+    public StandardExecutor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Gets maximum number of calls in a batch.
+     *
+     * @return maximum number of calls.
+     *
+     * @since v1.1
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets maximum time a call waits for its batch.
+     *
+     * @return window time in nanoseconds.
+     *
+     * @since v1.1
+     */
+    public long getWindow() {
+        return window;
+    }
+
+    /**
+     * Submits specified SQL subroutine call.
+     *
+     * @param subroutine SQL subroutine to be executed.
+     * @return execution result.
+     * @throws SQLException if the subroutine cannot be batched.
+     *
+     * @see StandardSubroutine
+     *
+     * @since v1.1
+     */
+    public Future<Void> call(StandardSubroutine subroutine)
+            throws SQLException {
+        if (!subroutine.isBatchable()) {
+            throw new SQLException(String.format("%s: cannot be batched",
+                    subroutine.getName()));
+        }
+        final String sql = subroutine.createSql();
+        Call call = new Call(subroutine);
+        List<Call> full = null;
+        synchronized (pending) {
+            List<Call> calls = pending.get(sql);
+            if (calls == null) {
+                calls = new ArrayList<Call>(size);
+                pending.put(sql, calls);
+                final List<Call> scheduled = calls;
+                scheduler.schedule(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        if (detach(sql, scheduled)) {
+                            handOff(sql, scheduled);
+                        }
+                    }
+                }, window, TimeUnit.NANOSECONDS);
+            }
+            calls.add(call);
+            if (calls.size() >= size) {
+                pending.remove(sql);
+                full = calls;
+            }
+        }
+        if (full != null) {
+            flush(sql, full);
+        }
+        return call;
+    }
+
+    /**
+     * Executes all pending calls immediately.
+     *
+     * @since v1.1
+     */
+    public void flush() {
+        Map<String, List<Call>> flushed;
+        synchronized (pending) {
+            flushed = new HashMap<String, List<Call>>(pending);
+            pending.clear();
+        }
+        for (Map.Entry<String, List<Call>> entry : flushed.entrySet()) {
+            flush(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private boolean detach(String sql, List<Call> calls) {
+        synchronized (pending) {
+            if (pending.get(sql) != calls) {
+                return false;
+            }
+            pending.remove(sql);
+            return true;
+        }
+    }
+
+    private void flush(String sql, List<Call> calls) {
+        Connection connection = null;
+        try {
+            connection = executor.open();
+            executor.before(connection);
+            execute(connection, sql, calls);
+            executor.after(connection);
+        } catch (SQLException e) {
+            fail(calls, e);
+        } catch (RuntimeException e) {
+            SQLException error = new SQLException("batch execution failed");
+            error.initCause(e);
+            fail(calls, error);
+        } finally {
+            if (connection != null) {
+                try {
+                    executor.close(connection);
+                } catch (SQLException e) {
+                    // results do not depend on the connection release
+                }
+            }
+            for (Call call : calls) {
+                call.complete();
+            }
+        }
+    }
+
+    private void handOff(final String sql, final List<Call> calls) {
+        try {
+            workers.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    flush(sql, calls);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            SQLException error = new SQLException("batch execution rejected");
+            error.initCause(e);
+            fail(calls, error);
+            for (Call call : calls) {
+                call.complete();
+            }
+        }
+    }
+
+    private void execute(Connection connection, String sql, List<Call> calls)
+            throws SQLException {
+        StatementCache cache = executor.getHeldCache();
+        Listener listener = executor.getListener();
+        Recorder recorder = executor.getRecorder();
+        StandardSubroutine first = calls.get(0).subroutine;
+        List<Call> batched = new ArrayList<Call>(calls.size());
+        long started = System.nanoTime();
+        long prepared = 0;
+        long executed = 0;
+        CallableStatement callable = first.prepare(connection, cache, sql);
+        boolean tracking = ArrayEncoder.track();
+        try {
+            for (Call call : calls) {
+                StandardSubroutine subroutine = call.subroutine;
+                if (recorder != null) {
+                    recorder.record(subroutine);
+                }
+                try {
+                    subroutine.before(connection);
+                    subroutine.bind(connection, callable);
+                    callable.addBatch();
+                    batched.add(call);
+                } catch (SQLException e) {
+                    call.fail(e);
+                }
+            }
+            if (batched.isEmpty()) {
+                return;
+            }
+            int[] counts;
+            prepared = System.nanoTime();
+            try {
+                counts = callable.executeBatch();
+            } catch (BatchUpdateException e) {
+                executed = System.nanoTime();
+                first.report(listener, started, prepared, executed, e);
+                resolve(connection, batched, e.getUpdateCounts(), e);
+                return;
+            }
+            executed = System.nanoTime();
+            first.report(listener, started, prepared, executed, null);
+            resolve(connection, batched, counts, null);
+        } catch (SQLException e) {
+            first.report(listener, started, prepared, executed, e);
+            fail(batched, e);
+        } finally {
+            if (tracking) {
+                ArrayEncoder.release();
+            }
+            if (cache == null) {
+                callable.close();
+            }
+        }
+    }
+
+    private void fail(List<Call> calls, SQLException error) {
+        for (Call call : calls) {
+            call.fail(error);
+        }
+    }
+
+    private void resolve(Connection connection, List<Call> calls,
+            int[] counts, SQLException error) {
+        for (int i = 0; i < calls.size(); i++) {
+            Call call = calls.get(i);
+            boolean failed = error != null && (counts == null
+                    || i >= counts.length
+                    || counts[i] == Statement.EXECUTE_FAILED);
+            if (failed) {
+                call.fail(error);
+                continue;
+            }
+            try {
+                call.subroutine.after(connection);
+            } catch (SQLException e) {
+                call.fail(e);
+            }
+        }
+    }
+}
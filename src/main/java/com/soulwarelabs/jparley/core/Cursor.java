@@ -0,0 +1,225 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     Cursor.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.01, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.soulwarelabs.jparley.Converter;
+
+/**
+ * Streaming SQL result set output parameter.
+ *
+ * <p>Rows of a result set (e.g. REF CURSOR) output are fetched lazily
+ * while iterating. The cursor keeps the subroutine statement open and
+ * releases it once all cursors of the execution are closed or iterated
+ * to the end, so it must be consumed before the connection is closed.
+ * Therefore subroutines with cursors can be executed only within a
+ * transaction (or with an explicit connection): a plain executor call
+ * releases its connection right away and fails with SQL exception.
+ *
+ * <p>The cursor can be iterated only once per execution.
+ *
+ * @param <T> mapped row type.
+ *
+ * @see Mapper
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class Cursor<T> implements Converter, Iterable<T>, Iterator<T> {
+
+    /**
+     * Row mapper reading all columns of a row into an array.
+     *
+     * @since v1.1
+     */
+    public static final Mapper<Object[]> COLUMNS = new Mapper<Object[]>() {
+
+        @Override
+        public Object[] perform(ResultSet row) throws SQLException {
+            ResultSetMetaData metadata = row.getMetaData();
+            Object[] columns = new Object[metadata.getColumnCount()];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = row.getObject(i + 1);
+            }
+            return columns;
+        }
+    };
+
+    private boolean fetched;
+    private final int fetchSize;
+    private boolean finished;
+    private boolean iterated;
+    private final Mapper<T> mapper;
+    private AtomicInteger remaining;
+    private ResultSet rows;
+    private CallableStatement statement;
+
+    /**
+     * Creates a new instance of cursor.
+     *
+     * @param fetchSize SQL result set fetch size (zero for driver default).
+     * @param mapper SQL result set row mapper.
+     *
+     * @see Mapper
+     *
+     * @since v1.1
+     */
+    public Cursor(int fetchSize, Mapper<T> mapper) {
+        this.fetchSize = fetchSize;
+        this.finished = true;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Gets SQL result set fetch size.
+     *
+     * @return fetch size.
+     *
+     * @since v1.1
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Gets SQL result set row mapper.
+     *
+     * @return row mapper.
+     *
+     * @see Mapper
+     *
+     * @since v1.1
+     */
+    public Mapper<T> getMapper() {
+        return mapper;
+    }
+
+    /**
+     * Closes the cursor and releases the subroutine statement if no other
+     * cursors of the execution remain open.
+     *
+     * @throws SQLException if error occurs while closing the cursor.
+     *
+     * @since v1.1
+     */
+    public void close() throws SQLException {
+        finished = true;
+        ResultSet closedRows = rows;
+        CallableStatement closedStatement = statement;
+        rows = null;
+        statement = null;
+        try {
+            if (closedRows != null) {
+                closedRows.close();
+            }
+        } finally {
+            if (closedStatement != null && remaining.decrementAndGet() == 0) {
+                closedStatement.close();
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!finished && !fetched) {
+            try {
+                fetched = true;
+                if (!rows.next()) {
+                    close();
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("cursor fetch failed", e);
+            }
+        }
+        return !finished;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("cursor is already iterated");
+        }
+        iterated = true;
+        return this;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        fetched = false;
+        try {
+            return mapper.perform(rows);
+        } catch (SQLException e) {
+            throw new IllegalStateException("cursor row mapping failed", e);
+        }
+    }
+
+    @Override
+    public Object perform(Connection connection, Object value)
+            throws SQLException {
+        close();
+        rows = (ResultSet) value;
+        if (rows != null && fetchSize > 0) {
+            rows.setFetchSize(fetchSize);
+        }
+        fetched = false;
+        finished = rows == null;
+        iterated = false;
+        return this;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    void attach(CallableStatement statement, AtomicInteger remaining) {
+        this.remaining = remaining;
+        this.statement = statement;
+        if (finished) {
+            this.statement = null;
+            if (remaining.decrementAndGet() == 0) {
+                try {
+                    statement.close();
+                } catch (SQLException e) {
+                    // the statement has no open results to be released
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     Description.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.io.IOException;
+
+/**
+ * Lazy text view of SQL subroutine.
+ *
+ * <p>The view is rendered from the current subroutine state only when it is
+ * written or converted to string, so it can be passed to loggers without
+ * formatting costs at disabled levels. Long parameter values are truncated.
+ *
+ * @see StandardSubroutine#describe(int)
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class Description {
+
+    private final int limit;
+    private final StandardSubroutine subroutine;
+
+    /**
+     * Creates a new instance of subroutine description.
+     *
+     * @param subroutine SQL subroutine.
+     * @param limit maximum length of printed values (zero for no limit).
+     *
+     * @see StandardSubroutine
+     *
+     * @since v1.1
+     */
+    public Description(StandardSubroutine subroutine, int limit) {
+        this.limit = limit;
+        this.subroutine = subroutine;
+    }
+
+    /**
+     * Writes the text view to specified output.
+     *
+     * @param output text output.
+     * @throws IOException if error occurs while writing the text view.
+     *
+     * @since v1.1
+     */
+    public void write(Appendable output) throws IOException {
+        subroutine.print(output, limit);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        try {
+            write(result);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     Frame.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.01, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.io.Serializable;
+import java.sql.CallableStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+
+/**
+ * Reusable array-backed frame of primitive input parameters.
+ *
+ * <p>Parameters are indexed by position and stored without boxing; the
+ * backing arrays are kept between subroutine executions.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+final class Frame implements Serializable {
+
+    private static final byte EMPTY = 0;
+    private static final byte DOUBLE = 1;
+    private static final byte INT = 2;
+    private static final byte LONG = 3;
+
+    private byte[] kinds;
+    private int size;
+    private long[] values;
+
+    /**
+     * Creates a new instance of primitive parameters frame.
+     *
+     * @since v1.1
+     */
+    public Frame() {
+        kinds = new byte[0];
+        values = new long[0];
+    }
+
+    /**
+     * Binds all frame parameters to specified SQL statement.
+     *
+     * @param statement callable SQL statement.
+     * @throws SQLException if error occurs while binding the parameters.
+     *
+     * @since v1.1
+     */
+    public void bind(CallableStatement statement) throws SQLException {
+        for (int index = 0; size > 0 && index < kinds.length; index++) {
+            switch (kinds[index]) {
+            case DOUBLE:
+                statement.setDouble(index,
+                        Double.longBitsToDouble(values[index]));
+                break;
+            case INT:
+                statement.setInt(index, (int) values[index]);
+                break;
+            case LONG:
+                statement.setLong(index, values[index]);
+                break;
+            default:
+                break;
+            }
+        }
+    }
+
+    /**
+     * Removes all frame parameters keeping allocated memory.
+     *
+     * @since v1.1
+     */
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(kinds, EMPTY);
+            size = 0;
+        }
+    }
+
+    /**
+     * Checks if frame contains a parameter with specified index.
+     *
+     * @param index parameter index.
+     * @return true if frame contains the parameter.
+     *
+     * @since v1.1
+     */
+    public boolean contains(int index) {
+        return index >= 0 && index < kinds.length && kinds[index] != EMPTY;
+    }
+
+    /**
+     * Gets a boxed value of specified frame parameter.
+     *
+     * @param index parameter index.
+     * @return boxed parameter value (optional).
+     *
+     * @since v1.1
+     */
+    public Object get(int index) {
+        if (!contains(index)) {
+            return null;
+        }
+        switch (kinds[index]) {
+        case DOUBLE:
+            return Double.longBitsToDouble(values[index]);
+        case INT:
+            return (int) values[index];
+        default:
+            return values[index];
+        }
+    }
+
+    /**
+     * Gets maximum index of frame parameters plus one.
+     *
+     * @return frame length.
+     *
+     * @since v1.1
+     */
+    public int getLength() {
+        return kinds.length;
+    }
+
+    /**
+     * Gets number of frame parameters.
+     *
+     * @return number of parameters.
+     *
+     * @since v1.1
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets SQL type code of specified frame parameter.
+     *
+     * @param index parameter index.
+     * @return SQL type code (optional).
+     *
+     * @since v1.1
+     */
+    public Integer getType(int index) {
+        if (!contains(index)) {
+            return null;
+        }
+        switch (kinds[index]) {
+        case DOUBLE:
+            return Types.DOUBLE;
+        case INT:
+            return Types.INTEGER;
+        default:
+            return Types.BIGINT;
+        }
+    }
+
+    /**
+     * Processes all frame parameters with specified processor.
+     *
+     * @param interviewer primitive parameters processor.
+     *
+     * @see FrameInterviewer
+     *
+     * @since v1.1
+     */
+    public void interview(FrameInterviewer interviewer) {
+        for (int index = 0; size > 0 && index < kinds.length; index++) {
+            switch (kinds[index]) {
+            case DOUBLE:
+                interviewer.perform(index,
+                        Double.longBitsToDouble(values[index]));
+                break;
+            case INT:
+                interviewer.perform(index, (int) values[index]);
+                break;
+            case LONG:
+                interviewer.perform(index, values[index]);
+                break;
+            default:
+                break;
+            }
+        }
+    }
+
+    /**
+     * Sets a double parameter.
+     *
+     * @param index parameter index.
+     * @param value parameter value.
+     *
+     * @since v1.1
+     */
+    public void put(int index, double value) {
+        put(index, DOUBLE, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Sets an integer parameter.
+     *
+     * @param index parameter index.
+     * @param value parameter value.
+     *
+     * @since v1.1
+     */
+    public void put(int index, int value) {
+        put(index, INT, value);
+    }
+
+    /**
+     * Sets a long integer parameter.
+     *
+     * @param index parameter index.
+     * @param value parameter value.
+     *
+     * @since v1.1
+     */
+    public void put(int index, long value) {
+        put(index, LONG, value);
+    }
+
+    /**
+     * Removes specified frame parameter.
+     *
+     * @param index parameter index.
+     *
+     * @since v1.1
+     */
+    public void remove(int index) {
+        if (contains(index)) {
+            kinds[index] = EMPTY;
+            size--;
+        }
+    }
+
+    private void put(int index, byte kind, long value) {
+        if (index >= kinds.length) {
+            int length = Math.max(index + 1, kinds.length * 2);
+            byte[] expandedKinds = new byte[length];
+            long[] expandedValues = new long[length];
+            System.arraycopy(kinds, 0, expandedKinds, 0, kinds.length);
+            System.arraycopy(values, 0, expandedValues, 0, values.length);
+            kinds = expandedKinds;
+            values = expandedValues;
+        }
+        if (kinds[index] == EMPTY) {
+            size++;
+        }
+        kinds[index] = kind;
+        values[index] = value;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     FrameInterviewer.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+/**
+ * SQL subroutine parameter processor aware of primitive parameters.
+ *
+ * <p>Primitive input parameters registered without boxing are passed to
+ * the dedicated methods, so that no boxes are allocated while the
+ * parameters are processed.
+ *
+ * @see Interviewer
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public interface FrameInterviewer extends Interviewer {
+
+    /**
+     * Processes information about double input parameter.
+     *
+     * @param index parameter index.
+     * @param input parameter input value.
+     *
+     * @since v1.1
+     */
+    void perform(int index, double input);
+
+    /**
+     * Processes information about integer input parameter.
+     *
+     * @param index parameter index.
+     * @param input parameter input value.
+     *
+     * @since v1.1
+     */
+    void perform(int index, int input);
+
+    /**
+     * Processes information about long integer input parameter.
+     *
+     * @param index parameter index.
+     * @param input parameter input value.
+     *
+     * @since v1.1
+     */
+    void perform(int index, long input);
+}
@@ -0,0 +1,331 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     FunctionDescriptor.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.05, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.io.Serializable;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import com.soulwarelabs.jparley.Converter;
+
+/**
+ * Immutable SQL stored function descriptor.
+ *
+ * <p>Unlike {@link StandardFunction} the descriptor keeps no invocation
+ * state: input parameters are passed with each call, so a single descriptor
+ * can be shared between threads.
+ *
+ * @see StandardFunction#getDescriptor()
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public final class FunctionDescriptor implements Serializable {
+
+    private final Converter decoder;
+    private final Converter[] encoders;
+    private final String name;
+    private final Interceptor postInterceptor;
+    private final Interceptor preInterceptor;
+    private final String struct;
+    private final int type;
+    private final int[] types;
+
+    /**
+     * Creates a new instance of function descriptor.
+     *
+     * @param name function name.
+     * @param type function result SQL type code.
+     *
+     * @since v1.1
+     */
+    public FunctionDescriptor(String name, int type) {
+        this(name, type, null, null, null, null);
+    }
+
+    /**
+     * Creates a new instance of function descriptor.
+     *
+     * @param name function name.
+     * @param type function result SQL type code.
+     * @param struct function result SQL structure name (optional).
+     * @param decoder function result SQL data decoder (optional).
+     * @param preInterceptor SQL pre-execution interceptor (optional).
+     * @param postInterceptor SQL post-execution interceptor (optional).
+     *
+     * @see Converter
+     * @see Interceptor
+     *
+     * @since v1.1
+     */
+    public FunctionDescriptor(String name, int type, String struct,
+            Converter decoder, Interceptor preInterceptor,
+            Interceptor postInterceptor) {
+        this(name, type, struct, decoder, preInterceptor, postInterceptor,
+                null, null);
+    }
+
+    /**
+     * Creates a new instance of function descriptor with declared input
+     * parameters.
+     *
+     * <p>Input values are bound with their declared SQL types, so null
+     * values are bound with their declared types as well. Parameters
+     * without a declared type are bound as {@link Types#OTHER}.
+     *
+     * @param name function name.
+     * @param type function result SQL type code.
+     * @param struct function result SQL structure name (optional).
+     * @param decoder function result SQL data decoder (optional).
+     * @param preInterceptor SQL pre-execution interceptor (optional).
+     * @param postInterceptor SQL post-execution interceptor (optional).
+     * @param types input parameters SQL type codes (optional).
+     * @param encoders input parameters SQL data encoders (optional).
+     *
+     * @see Converter
+     * @see Interceptor
+     *
+     * @since v1.1
+     */
+    public FunctionDescriptor(String name, int type, String struct,
+            Converter decoder, Interceptor preInterceptor,
+            Interceptor postInterceptor, int[] types,
+            Converter[] encoders) {
+        this.decoder = decoder;
+        this.encoders = encoders != null ? encoders.clone() : null;
+        this.name = name;
+        this.postInterceptor = postInterceptor;
+        this.preInterceptor = preInterceptor;
+        this.struct = struct;
+        this.type = type;
+        this.types = types != null ? types.clone() : null;
+    }
+
+    /**
+     * Gets function result SQL data decoder (optional).
+     *
+     * @return SQL data decoder (optional).
+     *
+     * @see Converter
+     *
+     * @since v1.1
+     */
+    public Converter getDecoder() {
+        return decoder;
+    }
+
+    /**
+     * Gets function name.
+     *
+     * @return function name.
+     *
+     * @since v1.1
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets SQL workflow post-execution interceptor.
+     *
+     * @return SQL workflow interceptor (optional).
+     *
+     * @see Interceptor
+     *
+     * @since v1.1
+     */
+    public Interceptor getPostInterceptor() {
+        return postInterceptor;
+    }
+
+    /**
+     * Gets SQL workflow pre-execution interceptor.
+     *
+     * @return SQL workflow interceptor (optional).
+     *
+     * @see Interceptor
+     *
+     * @since v1.1
+     */
+    public Interceptor getPreInterceptor() {
+        return preInterceptor;
+    }
+
+    /**
+     * Gets function result SQL structure name.
+     *
+     * @return SQL structure name (optional).
+     *
+     * @since v1.1
+     */
+    public String getStruct() {
+        return struct;
+    }
+
+    /**
+     * Gets function result SQL type code.
+     *
+     * @return SQL type code.
+     *
+     * @since v1.1
+     */
+    public int getType() {
+        return type;
+    }
+
+    /**
+     * Executes the function.
+     *
+     * @param connection SQL database connection.
+     * @param cache SQL statement cache (optional).
+     * @param parameters function input parameters.
+     * @return function result.
+     * @throws SQLException if error occurs while executing the function.
+     *
+     * @see StatementCache
+     *
+     * @since v1.1
+     */
+    public Object call(Connection connection, StatementCache cache,
+            Object ... parameters) throws SQLException {
+        return call(connection, cache, null, parameters);
+    }
+
+    /**
+     * Executes the function reporting to specified execution listener.
+     *
+     * @param connection SQL database connection.
+     * @param cache SQL statement cache (optional).
+     * @param listener SQL execution listener (optional).
+     * @param parameters function input parameters.
+     * @return function result.
+     * @throws SQLException if error occurs while executing the function.
+     *
+     * @see StatementCache
+     * @see Listener
+     *
+     * @since v1.1
+     */
+    public Object call(Connection connection, StatementCache cache,
+            Listener listener, Object ... parameters) throws SQLException {
+        intercept(connection, preInterceptor);
+        int number = parameters != null ? parameters.length : 0;
+        SqlCache sqlCache = SqlCache.getInstance();
+        String sql = sqlCache.get(SqlCache.FUNCTION, name, number + 1);
+        long started = System.nanoTime();
+        long prepared = 0;
+        long executed = 0;
+        Object result;
+        try {
+            CallableStatement callable = cache != null
+                    ? cache.prepare(connection, sql)
+                    : connection.prepareCall(sql);
+            boolean tracking = ArrayEncoder.track();
+            try {
+                if (struct != null) {
+                    callable.registerOutParameter(1, type, struct);
+                } else {
+                    callable.registerOutParameter(1, type);
+                }
+                for (int i = 0; i < number; i++) {
+                    bind(connection, callable, i, parameters[i]);
+                }
+                prepared = System.nanoTime();
+                callable.execute();
+                executed = System.nanoTime();
+                result = callable.getObject(1);
+                if (decoder != null) {
+                    result = LazyBox.decode(decoder, connection, result);
+                }
+            } finally {
+                if (tracking) {
+                    ArrayEncoder.release();
+                }
+                if (cache == null) {
+                    callable.close();
+                }
+            }
+        } catch (SQLException e) {
+            report(listener, number + 1, started, prepared, executed, e);
+            throw e;
+        }
+        report(listener, number + 1, started, prepared, executed, null);
+        intercept(connection, postInterceptor);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%s/%s)", name, type, struct);
+    }
+
+    boolean isRetaining() {
+        return LazyBox.isLazy(decoder);
+    }
+
+    private void bind(Connection connection, CallableStatement callable,
+            int index, Object value) throws SQLException {
+        Converter encoder = encoders != null && index < encoders.length
+                ? encoders[index] : null;
+        if (encoder != null) {
+            value = encoder.perform(connection, value);
+        }
+        boolean declared = types != null && index < types.length;
+        int parameterType = declared ? types[index] : Types.OTHER;
+        String typeName = ArrayEncoder.getTypeName(encoder);
+        if (value == null && typeName != null) {
+            callable.setNull(index + 2, parameterType, typeName);
+        } else if (value == null) {
+            callable.setNull(index + 2, parameterType);
+        } else if (declared) {
+            callable.setObject(index + 2, value, parameterType);
+        } else {
+            callable.setObject(index + 2, value);
+        }
+    }
+
+    private void intercept(Connection connection, Interceptor interceptor)
+            throws SQLException {
+        if (interceptor != null) {
+            interceptor.perform(connection);
+        }
+    }
+
+    private void report(Listener listener, int parametersNumber,
+            long started, long prepared, long executed, SQLException error) {
+        if (listener != null) {
+            long finished = System.nanoTime();
+            prepared = prepared != 0 ? prepared : finished;
+            executed = executed != 0 ? executed : finished;
+            listener.executed(name, parametersNumber, prepared - started,
+                    executed - prepared, finished - executed, error);
+        }
+    }
+}
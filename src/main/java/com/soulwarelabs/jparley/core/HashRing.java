@@ -0,0 +1,123 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     HashRing.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.02, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.util.Arrays;
+
+/**
+ * Consistent hash ring of shards.
+ *
+ * <p>Each shard is placed on the ring at a number of virtual nodes, so
+ * adding a shard moves only a proportional part of the keys. Keys are
+ * hashed by their hash codes, so key types have to provide stable hash
+ * codes (e.g. strings and numbers).
+ *
+ * @see Ring
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class HashRing implements Ring {
+
+    /**
+     * Default number of virtual nodes per shard.
+     *
+     * @since v1.1
+     */
+    public static final int DEFAULT_NODES = 128;
+
+    private final int[] owners;
+    private final int[] points;
+    private final int shards;
+
+    /**
+     * Creates a new instance of hash ring.
+     *
+     * @param shards number of shards.
+     *
+     * @since v1.1
+     */
+    public HashRing(int shards) {
+        this(shards, DEFAULT_NODES);
+    }
+
+    /**
+     * Creates a new instance of hash ring.
+     *
+     * @param shards number of shards.
+     * @param nodes number of virtual nodes per shard.
+     * @throws IllegalArgumentException if number of shards or nodes is not
+     *         positive.
+     *
+     * @since v1.1
+     */
+    public HashRing(int shards, int nodes) {
+        if (shards <= 0 || nodes <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "invalid ring size: %s shards, %s nodes", shards, nodes));
+        }
+        long[] ring = new long[shards * nodes];
+        for (int shard = 0; shard < shards; shard++) {
+            for (int node = 0; node < nodes; node++) {
+                int point = mix(shard * 0x9E3779B9 + node);
+                ring[shard * nodes + node] = ((long) point << 32) | shard;
+            }
+        }
+        Arrays.sort(ring);
+        this.owners = new int[ring.length];
+        this.points = new int[ring.length];
+        this.shards = shards;
+        for (int i = 0; i < ring.length; i++) {
+            owners[i] = (int) ring[i];
+            points[i] = (int) (ring[i] >> 32);
+        }
+    }
+
+    @Override
+    public int getShards() {
+        return shards;
+    }
+
+    @Override
+    public int locate(Object key) {
+        int hash = mix(key != null ? key.hashCode() : 0);
+        int position = Arrays.binarySearch(points, hash);
+        if (position < 0) {
+            position = -position - 1;
+        }
+        return owners[position < points.length ? position : 0];
+    }
+
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     HistogramListener.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SQL subroutines execution listener keeping per-subroutine latency
+ * histograms.
+ *
+ * <p>Subroutine latency is a sum of its preparation, execution and parsing
+ * times. Connection pool wait times are kept in a separate histogram.
+ *
+ * @see Listener
+ * @see LatencyHistogram
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class HistogramListener implements Listener {
+
+    private final ConcurrentMap<String, AtomicLong> failures;
+    private final ConcurrentMap<String, LatencyHistogram> latencies;
+    private final LatencyHistogram waits;
+
+    /**
+     * Creates a new instance of histogram listener.
+     *
+     * @since v1.1
+     */
+    public HistogramListener() {
+        failures = new ConcurrentHashMap<String, AtomicLong>();
+        latencies = new ConcurrentHashMap<String, LatencyHistogram>();
+        waits = new LatencyHistogram();
+    }
+
+    /**
+     * Gets number of failed executions of specified subroutine.
+     *
+     * @param name subroutine name.
+     * @return number of failed executions.
+     *
+     * @since v1.1
+     */
+    public long getFailures(String name) {
+        AtomicLong counter = failures.get(String.valueOf(name));
+        return counter != null ? counter.get() : 0;
+    }
+
+    /**
+     * Gets latency histogram of specified subroutine.
+     *
+     * @param name subroutine name.
+     * @return latency histogram (optional).
+     *
+     * @see LatencyHistogram
+     *
+     * @since v1.1
+     */
+    public LatencyHistogram getHistogram(String name) {
+        return latencies.get(String.valueOf(name));
+    }
+
+    /**
+     * Gets names of all executed subroutines.
+     *
+     * @return subroutine names.
+     *
+     * @since v1.1
+     */
+    public Set<String> getNames() {
+        return latencies.keySet();
+    }
+
+    /**
+     * Gets connection pool wait time histogram.
+     *
+     * @return latency histogram.
+     *
+     * @see LatencyHistogram
+     *
+     * @since v1.1
+     */
+    public LatencyHistogram getWaits() {
+        return waits;
+    }
+
+    @Override
+    public void connected(long waitTime, SQLException error) {
+        waits.record(waitTime);
+    }
+
+    @Override
+    public void executed(String name, int parametersNumber, long prepareTime,
+            long executeTime, long parseTime, SQLException error) {
+        String key = String.valueOf(name);
+        LatencyHistogram histogram = latencies.get(key);
+        if (histogram == null) {
+            LatencyHistogram created = new LatencyHistogram();
+            histogram = latencies.putIfAbsent(key, created);
+            histogram = histogram != null ? histogram : created;
+        }
+        histogram.record(prepareTime + executeTime + parseTime);
+        if (error != null) {
+            AtomicLong counter = failures.get(key);
+            if (counter == null) {
+                AtomicLong created = new AtomicLong();
+                counter = failures.putIfAbsent(key, created);
+                counter = counter != null ? counter : created;
+            }
+            counter.incrementAndGet();
+        }
+    }
+
+    /**
+     * Resets all collected statistics.
+     *
+     * @since v1.1
+     */
+    public void reset() {
+        failures.clear();
+        latencies.clear();
+        waits.reset();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        result.append("wait {");
+        result.append(waits);
+        result.append("}");
+        for (String name : latencies.keySet()) {
+            result.append(",\r\n");
+            result.append(name);
+            result.append(" {");
+            result.append(latencies.get(name));
+            result.append(", failures=");
+            result.append(getFailures(name));
+            result.append("}");
+        }
+        return result.toString();
+    }
+}
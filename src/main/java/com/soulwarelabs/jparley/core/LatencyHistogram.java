@@ -0,0 +1,166 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     LatencyHistogram.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of latency values.
+ *
+ * <p>Values are counted in power of two buckets, so recording takes
+ * constant time and memory while percentiles are reported with a relative
+ * error of at most two times.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class LatencyHistogram implements Serializable {
+
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray counts;
+    private final AtomicLong max;
+    private final AtomicLong total;
+
+    /**
+     * Creates a new instance of latency histogram.
+     *
+     * @since v1.1
+     */
+    public LatencyHistogram() {
+        counts = new AtomicLongArray(BUCKETS);
+        max = new AtomicLong();
+        total = new AtomicLong();
+    }
+
+    /**
+     * Gets number of recorded values.
+     *
+     * @return number of values.
+     *
+     * @since v1.1
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Gets maximum recorded value.
+     *
+     * @return maximum value.
+     *
+     * @since v1.1
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Gets mean of recorded values.
+     *
+     * @return mean value.
+     *
+     * @since v1.1
+     */
+    public double getMean() {
+        long count = getCount();
+        return count > 0 ? (double) total.get() / count : 0;
+    }
+
+    /**
+     * Gets an upper bound of specified percentile of recorded values.
+     *
+     * @param percentile percentile (from 0 to 100).
+     * @return percentile upper bound.
+     *
+     * @since v1.1
+     */
+    public long getPercentile(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(count * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank && seen > 0) {
+                return Math.min(i < BUCKETS - 1 ? 1L << i : Long.MAX_VALUE,
+                        getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Records a new value.
+     *
+     * @param value latency value (non-negative).
+     *
+     * @since v1.1
+     */
+    public void record(long value) {
+        value = Math.max(value, 0);
+        int bucket = 0;
+        if (value > 0) {
+            bucket = BUCKETS - Long.numberOfLeadingZeros(value - 1);
+        }
+        counts.incrementAndGet(bucket);
+        total.addAndGet(value);
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Resets the histogram.
+     *
+     * @since v1.1
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        max.set(0);
+        total.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, mean=%.0f, p50=%d, p99=%d, max=%d",
+                getCount(), getMean(), getPercentile(50), getPercentile(99),
+                getMax());
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     LazyBox.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.02, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import com.soulwarelabs.jcommons.Box;
+
+import com.soulwarelabs.jparley.Converter;
+
+/**
+ * Lazily decoded output parameter value.
+ *
+ * <p>Registered as the decoder of an output parameter, the box captures the
+ * raw SQL value after each execution and decodes it on the first access
+ * only, so unused outputs are never decoded.
+ *
+ * <p>Decoding uses the connection of the execution, so a subroutine with
+ * lazy outputs can be executed only within a transaction (or with an
+ * explicit connection), and values have to be accessed before the
+ * transaction is finished; a plain executor call releases its connection
+ * right away and fails with SQL exception. Accessing a pending value
+ * after the connection is closed fails with illegal state exception.
+ *
+ * <p>Registered as a decoder of a shared {@link Plan} slot or
+ * {@link FunctionDescriptor} result, the box is a template only: each
+ * call yields its own new lazy box instead, so the shared definition is
+ * not modified by concurrent calls.
+ *
+ * @see StandardProcedure#lazy(int, int, String, Converter)
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class LazyBox extends Box<Object> implements Converter {
+
+    private transient Connection connection;
+    private final Converter decoder;
+    private boolean pending;
+    private Object raw;
+
+    /**
+     * Creates a new instance of lazy box.
+     *
+     * @param decoder SQL data decoder (optional).
+     *
+     * @see Converter
+     *
+     * @since v1.1
+     */
+    public LazyBox(Converter decoder) {
+        this.decoder = decoder;
+    }
+
+    /**
+     * Gets SQL data decoder (optional).
+     *
+     * @return SQL data decoder (optional).
+     *
+     * @see Converter
+     *
+     * @since v1.1
+     */
+    public Converter getDecoder() {
+        return decoder;
+    }
+
+    /**
+     * Checks if the value is not decoded yet.
+     *
+     * @return true if the value is not decoded yet.
+     *
+     * @since v1.1
+     */
+    public boolean isPending() {
+        return pending;
+    }
+
+    /**
+     * Gets decoded value decoding it if necessary.
+     *
+     * @return decoded value.
+     * @throws IllegalStateException if the connection is closed or error
+     *         occurs while decoding.
+     *
+     * @since v1.1
+     */
+    @Override
+    public Object getValue() {
+        if (pending) {
+            try {
+                if (connection.isClosed()) {
+                    throw new IllegalStateException("connection is closed");
+                }
+                super.setValue(decoder.perform(connection, raw));
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            clear();
+        }
+        return super.getValue();
+    }
+
+    @Override
+    public void setValue(Object value) {
+        clear();
+        super.setValue(value);
+    }
+
+    @Override
+    public Object perform(Connection connection, Object value)
+            throws SQLException {
+        if (decoder != null && value != null) {
+            this.connection = connection;
+            this.pending = true;
+            this.raw = value;
+            super.setValue(null);
+        } else {
+            setValue(value);
+        }
+        return value;
+    }
+
+    static Object decode(Converter decoder, Connection connection,
+            Object value) throws SQLException {
+        if (!(decoder instanceof LazyBox)) {
+            return decoder.perform(connection, value);
+        }
+        LazyBox box = new LazyBox(((LazyBox) decoder).getDecoder());
+        box.perform(connection, value);
+        return box;
+    }
+
+    static boolean isLazy(Converter decoder) {
+        return decoder instanceof LazyBox || decoder instanceof LobDecoder;
+    }
+
+    private void clear() {
+        connection = null;
+        pending = false;
+        raw = null;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     Limiter.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive concurrency limiter.
+ *
+ * <p>Limits the number of concurrent calls using additive increase and
+ * multiplicative decrease: the limit grows by one per limit of calls
+ * completed within the latency threshold and is reduced by the backoff
+ * ratio on every slow or failed call, staying within the configured
+ * bounds.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class Limiter {
+
+    private final double backoff;
+    private int inFlight;
+    private final int initialLimit;
+    private double limit;
+    private final int maxLimit;
+    private final int minLimit;
+    private final long threshold;
+
+    /**
+     * Creates a new instance of fixed concurrency limiter.
+     *
+     * @param limit maximum number of concurrent calls.
+     *
+     * @since v1.1
+     */
+    public Limiter(int limit) {
+        this(limit, limit, limit, 0, 1.0);
+    }
+
+    /**
+     * Creates a new instance of adaptive concurrency limiter.
+     *
+     * @param limit initial number of concurrent calls.
+     * @param minLimit minimum number of concurrent calls.
+     * @param maxLimit maximum number of concurrent calls.
+     * @param threshold call latency threshold in nanoseconds (zero for
+     *        failures only).
+     * @param backoff limit backoff ratio (e.g. 0.9).
+     *
+     * @since v1.1
+     */
+    public Limiter(int limit, int minLimit, int maxLimit, long threshold,
+            double backoff) {
+        this.backoff = backoff;
+        this.initialLimit = limit;
+        this.limit = limit;
+        this.maxLimit = maxLimit;
+        this.minLimit = minLimit;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Gets number of calls in flight.
+     *
+     * @return number of calls.
+     *
+     * @since v1.1
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Gets current maximum number of concurrent calls.
+     *
+     * @return maximum number of calls.
+     *
+     * @since v1.1
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Requests a permission for a new call.
+     *
+     * @param timeout wait timeout in nanoseconds (zero for fail-fast).
+     * @return true if the call is permitted.
+     * @throws InterruptedException if interrupted while waiting.
+     *
+     * @since v1.1
+     */
+    public synchronized boolean acquire(long timeout)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + timeout;
+        while (inFlight >= (int) limit) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Returns an unused call permission.
+     *
+     * @since v1.1
+     */
+    public synchronized void cancel() {
+        inFlight--;
+        notifyAll();
+    }
+
+    /**
+     * Completes a permitted call adjusting the limit.
+     *
+     * @param latency call latency in nanoseconds.
+     * @param failed true if the call failed.
+     *
+     * @since v1.1
+     */
+    public synchronized void release(long latency, boolean failed) {
+        inFlight--;
+        if (failed || (threshold > 0 && latency > threshold)) {
+            limit = Math.max(minLimit, limit * backoff);
+        } else {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+        notifyAll();
+    }
+
+    Limiter copy() {
+        return new Limiter(initialLimit, minLimit, maxLimit, threshold,
+                backoff);
+    }
+}
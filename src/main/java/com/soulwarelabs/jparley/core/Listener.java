@@ -0,0 +1,66 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     Listener.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.sql.SQLException;
+
+/**
+ * SQL subroutines execution listener.
+ *
+ * <p>All time values are measured in nanoseconds.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public interface Listener {
+
+    /**
+     * Processes information about SQL database connection acquisition.
+     *
+     * @param waitTime connection pool wait time.
+     * @param error acquisition error (optional).
+     *
+     * @since v1.1
+     */
+    void connected(long waitTime, SQLException error);
+
+    /**
+     * Processes information about SQL subroutine execution.
+     *
+     * @param name subroutine name.
+     * @param parametersNumber subroutine parameters number.
+     * @param prepareTime statement preparation and parameters setup time.
+     * @param executeTime statement execution time.
+     * @param parseTime output parameters parsing time.
+     * @param error execution error (optional).
+     *
+     * @since v1.1
+     */
+    void executed(String name, int parametersNumber, long prepareTime,
+            long executeTime, long parseTime, SQLException error);
+}
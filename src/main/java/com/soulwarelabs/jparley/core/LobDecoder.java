@@ -0,0 +1,89 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     LobDecoder.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.01, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.io.Serializable;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import com.soulwarelabs.jparley.Converter;
+
+/**
+ * SQL large object output parameter decoder.
+ *
+ * <p>Exposes BLOB and CLOB outputs as streams instead of materializing
+ * them. Streams are backed by the large object locators, which are valid
+ * only while the connection is held: a subroutine with such outputs can be
+ * executed only within a transaction (or with an explicit connection),
+ * and the streams have to be read before the transaction is finished. A
+ * plain executor call releases its connection right away and fails with
+ * SQL exception.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public final class LobDecoder implements Converter, Serializable {
+
+    /**
+     * Decoder of BLOB values into binary input streams.
+     *
+     * @since v1.1
+     */
+    public static final LobDecoder BINARY = new LobDecoder(true);
+
+    /**
+     * Decoder of CLOB values into character readers.
+     *
+     * @since v1.1
+     */
+    public static final LobDecoder CHARACTER = new LobDecoder(false);
+
+    private final boolean binary;
+
+    private LobDecoder(boolean binary) {
+        this.binary = binary;
+    }
+
+    @Override
+    public Object perform(Connection connection, Object value)
+            throws SQLException {
+        if (binary && value instanceof Blob) {
+            return ((Blob) value).getBinaryStream();
+        }
+        if (!binary && value instanceof Clob) {
+            return ((Clob) value).getCharacterStream();
+        }
+        return value;
+    }
+
+    private Object readResolve() {
+        return binary ? BINARY : CHARACTER;
+    }
+}
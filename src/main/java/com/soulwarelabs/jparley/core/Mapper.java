@@ -0,0 +1,55 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     Mapper.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * SQL result set row mapper.
+ *
+ * @param <T> mapped row type.
+ *
+ * @see Cursor
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public interface Mapper<T> {
+
+    /**
+     * Maps current row of SQL result set.
+     *
+     * @param row SQL result set positioned at the row.
+     * @return mapped row.
+     * @throws SQLException if error occurs while reading the row.
+     *
+     * @since v1.1
+     */
+    T perform(ResultSet row) throws SQLException;
+}
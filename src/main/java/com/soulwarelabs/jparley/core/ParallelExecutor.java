@@ -0,0 +1,333 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     ParallelExecutor.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.02, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.soulwarelabs.jcommons.sql.ConnectionPool;
+
+import com.soulwarelabs.jparley.Subroutine;
+
+/**
+ * Parallel SQL subroutines executor.
+ *
+ * <p>Splits subroutines passed to a single call into contiguous parts and
+ * executes each part on its own pooled connection using worker threads.
+ * Executor interceptors are invoked on each used connection. Intended for
+ * independent (e.g. read-only) subroutines only, since no execution order
+ * between the parts is guaranteed.
+ *
+ * @see StandardExecutor
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class ParallelExecutor extends StandardExecutor {
+
+    private class Part implements Callable<Void> {
+
+        private final Subroutine[] chunk;
+        private final CountDownLatch finished;
+        private final AtomicBoolean started;
+
+        public Part(Subroutine[] chunk, CountDownLatch finished) {
+            this.chunk = chunk;
+            this.finished = finished;
+            this.started = new AtomicBoolean();
+        }
+
+        @Override
+        public Void call() throws Exception {
+            if (!started.compareAndSet(false, true)) {
+                return null;
+            }
+            Connection connection = null;
+            try {
+                connection = open();
+                execute(connection, chunk);
+            } finally {
+                try {
+                    if (connection != null) {
+                        close(connection);
+                    }
+                } finally {
+                    connections.release();
+                    finished.countDown();
+                }
+            }
+            return null;
+        }
+
+        public void cancel() {
+            if (started.compareAndSet(false, true)) {
+                connections.release();
+                finished.countDown();
+            }
+        }
+    }
+
+    private final Semaphore connections;
+    private int parallelism;
+    private transient ExecutorService workers;
+
+    /**
+     * Creates a new instance of parallel executor.
+     *
+     * @param pool SQL database connection pool.
+     * @param workers worker threads service.
+     * @param parallelism maximum number of connections used by a call.
+     *
+     * @see ConnectionPool
+     *
+     * @since v1.1
+     */
+    public ParallelExecutor(ConnectionPool pool, ExecutorService workers,
+            int parallelism) {
+        this(pool, workers, parallelism, parallelism, null, null);
+    }
+
+    /**
+     * Creates a new instance of parallel executor.
+     *
+     * @param pool SQL database connection pool.
+     * @param workers worker threads service.
+     * @param parallelism maximum number of connections used by a call.
+     * @param preInterceptor SQL pre-execution interceptor (optional).
+     * @param postInterceptor SQL post-execution interceptor (optional).
+     *
+     * @see ConnectionPool
+     * @see Interceptor
+     *
+     * @since v1.1
+     */
+    public ParallelExecutor(ConnectionPool pool, ExecutorService workers,
+            int parallelism, Interceptor preInterceptor,
+            Interceptor postInterceptor) {
+        this(pool, workers, parallelism, parallelism, preInterceptor,
+                postInterceptor);
+    }
+
+    /**
+     * Creates a new instance of parallel executor.
+     *
+     * @param pool SQL database connection pool.
+     * @param workers worker threads service.
+     * @param parallelism maximum number of connections used by a call.
+     * @param connections maximum number of connections used by parallel
+     *        parts of all calls.
+     * @param preInterceptor SQL pre-execution interceptor (optional).
+     * @param postInterceptor SQL post-execution interceptor (optional).
+     *
+     * @see ConnectionPool
+     * @see Interceptor
+     *
+     * @since v1.1
+     */
+    public ParallelExecutor(ConnectionPool pool, ExecutorService workers,
+            int parallelism, int connections, Interceptor preInterceptor,
+            Interceptor postInterceptor) {
+        super(pool, preInterceptor, postInterceptor);
+        this.connections = new Semaphore(connections);
+        this.parallelism = parallelism;
+        this.workers = workers;
+    }
+
+    /**
+     * Gets maximum number of connections used by a call.
+     *
+     * @return maximum number of connections.
+     *
+     * @since v1.1
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets a new maximum number of connections used by a call.
+     *
+     * @param parallelism maximum number of connections.
+     *
+     * @since v1.1
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Gets worker threads service.
+     *
+     * @return worker threads service.
+     *
+     * @since v1.1
+     */
+    public ExecutorService getWorkers() {
+        return workers;
+    }
+
+    /**
+     * Sets a new worker threads service.
+     *
+     * @param workers worker threads service.
+     *
+     * @since v1.1
+     */
+    public void setWorkers(ExecutorService workers) {
+        this.workers = workers;
+    }
+
+    @Override
+    public void call(Subroutine ... subroutines) throws SQLException {
+        int parts = Math.min(getParallelism(), subroutines.length);
+        ExecutorService service = getWorkers();
+        parts = service != null ? acquire(parts) : 0;
+        if (parts < 2) {
+            super.call(subroutines);
+            return;
+        }
+        CountDownLatch finished = new CountDownLatch(parts);
+        List<Part> tasks = new ArrayList<Part>(parts);
+        int offset = 0;
+        for (int part = 0; part < parts; part++) {
+            int length = (subroutines.length - offset) / (parts - part);
+            Subroutine[] chunk = new Subroutine[length];
+            System.arraycopy(subroutines, offset, chunk, 0, length);
+            offset += length;
+            tasks.add(new Part(chunk, finished));
+        }
+        List<Future<Void>> results = new ArrayList<Future<Void>>(parts);
+        SQLException error = null;
+        int failed = 0;
+        try {
+            for (Part task : tasks) {
+                results.add(service.submit(task));
+            }
+            for (; failed < results.size(); failed++) {
+                error = await(results.get(failed));
+                if (error != null) {
+                    break;
+                }
+            }
+        } catch (RejectedExecutionException e) {
+            error = wrap(e);
+            failed = results.size();
+        } finally {
+            cancel(tasks, results, Thread.currentThread().isInterrupted());
+            boolean interrupted = finish(finished);
+            for (int index = failed + 1; index < results.size(); index++) {
+                Future<Void> result = results.get(index);
+                if (error != null && !result.isCancelled()) {
+                    error = chain(error, await(result));
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private int acquire(int parts) {
+        for (int granted = parts; granted > 1; granted--) {
+            if (connections.tryAcquire(granted)) {
+                return granted;
+            }
+        }
+        return 0;
+    }
+
+    private SQLException await(Future<Void> result) {
+        try {
+            result.get();
+            return null;
+        } catch (CancellationException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return wrap(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                return (SQLException) cause;
+            }
+            return wrap(cause);
+        }
+    }
+
+    private void cancel(List<Part> tasks, List<Future<Void>> results,
+            boolean interrupt) {
+        for (int index = 0; index < tasks.size(); index++) {
+            tasks.get(index).cancel();
+            if (index < results.size()) {
+                results.get(index).cancel(interrupt);
+            }
+        }
+    }
+
+    private SQLException chain(SQLException error, SQLException next) {
+        if (error == null) {
+            return next;
+        }
+        if (next != null) {
+            error.setNextException(next);
+        }
+        return error;
+    }
+
+    private boolean finish(CountDownLatch finished) {
+        boolean interrupted = Thread.interrupted();
+        while (true) {
+            try {
+                finished.await();
+                return interrupted;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+    }
+
+    private SQLException wrap(Throwable cause) {
+        SQLException error = new SQLException("parallel execution failed");
+        error.initCause(cause);
+        return error;
+    }
+}
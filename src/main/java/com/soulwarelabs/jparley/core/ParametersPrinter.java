@@ -4,7 +4,7 @@
  *
  * File:     ParametersPrinter.java
  * Folder:   /.../com/soulwarelabs/jparley/core
- * Revision: 1.01, 16 April 2014
+ * Revision: 1.03, 18 October 2026
  * Created:  16 March 2014
  * Author:   Ilya Gubarev
  *
@@ -25,25 +25,34 @@
  */
 package com.soulwarelabs.jparley.core;
 
+import java.io.IOException;
 import java.io.Serializable;
-import java.util.LinkedList;
-import java.util.List;
 
 import com.soulwarelabs.jcommons.Box;
 
 /**
  * SQL subroutine parameters printer.
  *
+ * <p>Parameters are appended to a single text buffer in linear time or,
+ * if a text output is specified, written straight into the output.
+ * Printed values can optionally be truncated to a maximum length.
+ *
  * @see Interviewer
  *
  * @since v1.0
  *
  * @author Ilya Gubarev
- * @version 16 April 2014
+ * @version 18 October 2026
  */
 public class ParametersPrinter implements Interviewer, Serializable {
 
-    private List<StringBuilder> parameters;
+    private static final String ELLIPSIS = "...";
+
+    private transient IOException error;
+    private final int limit;
+    private transient Appendable output;
+    private StringBuilder parameters;
+    private int printed;
 
     /**
      * Creates a new instance of parameters printer.
@@ -51,7 +60,61 @@ public class ParametersPrinter implements Interviewer, Serializable {
      * @since v1.0
      */
     public ParametersPrinter() {
-        parameters = new LinkedList<StringBuilder>();
+        this(0);
+    }
+
+    /**
+     * Creates a new instance of parameters printer.
+     *
+     * @param limit maximum length of printed values (zero for no limit).
+     *
+     * @since v1.1
+     */
+    public ParametersPrinter(int limit) {
+        this(null, limit);
+    }
+
+    /**
+     * Creates a new instance of parameters printer writing straight into
+     * specified output.
+     *
+     * @param output text output (optional).
+     * @param limit maximum length of printed values (zero for no limit).
+     *
+     * @see #flush()
+     *
+     * @since v1.1
+     */
+    public ParametersPrinter(Appendable output, int limit) {
+        this.limit = limit;
+        this.output = output;
+        this.parameters = new StringBuilder();
+    }
+
+    /**
+     * Gets maximum length of printed values.
+     *
+     * @return maximum length (zero for no limit).
+     *
+     * @since v1.1
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Completes writing into the printer output.
+     *
+     * @throws IOException if error occurred while writing the parameters.
+     *
+     * @since v1.1
+     */
+    public void flush() throws IOException {
+        IOException occurred = error;
+        error = null;
+        if (occurred != null) {
+            throw occurred;
+        }
     }
 
     @Override
@@ -74,23 +137,33 @@ public class ParametersPrinter implements Interviewer, Serializable {
      * @since v1.0
      */
     public StringBuilder print() {
-        StringBuilder result = new StringBuilder();
-        for (int index = 0; index < parameters.size(); index++) {
-            StringBuilder line = parameters.get(index);
-            result.append(line);
-            result.append(index < parameters.size() - 1 ? ",\r\n" : "");
-        }
-        reset();
+        StringBuilder result = parameters;
+        parameters = new StringBuilder();
+        printed = 0;
         return result;
     }
 
+    /**
+     * Writes a text view of the printer to specified output and resets it.
+     *
+     * @param output text output.
+     * @throws IOException if error occurs while writing the text view.
+     *
+     * @since v1.1
+     */
+    public void print(Appendable output) throws IOException {
+        output.append(parameters);
+        reset();
+    }
+
     /**
      * Resets the printer.
      *
      * @since v1.0
      */
     public void reset() {
-        parameters.clear();
+        parameters.setLength(0);
+        printed = 0;
     }
 
     @Override
@@ -98,19 +171,48 @@ public class ParametersPrinter implements Interviewer, Serializable {
         return print().toString();
     }
 
+    private void append(Object value) {
+        String text = String.valueOf(value);
+        if (limit > 0 && text.length() > limit) {
+            write(text, limit);
+            write(ELLIPSIS);
+        } else {
+            write(text);
+        }
+    }
+
     private void perform(Object key, Box<?> input, Box<Object> output,
             Integer type, String struct) {
-        StringBuilder line = new StringBuilder();
-        line.append(key);
-        line.append(" = ");
-        line.append(input);
-        line.append("/");
-        line.append(output);
-        line.append(" (");
-        line.append(type);
-        line.append("/");
-        line.append(struct);
-        line.append("}");
-        parameters.add(line);
+        if (printed++ > 0) {
+            write(",\r\n");
+        }
+        write(String.valueOf(key));
+        write(" = ");
+        append(input);
+        write("/");
+        append(output);
+        write(" (");
+        write(String.valueOf(type));
+        write("/");
+        write(String.valueOf(struct));
+        write("}");
+    }
+
+    private void write(String text) {
+        write(text, text.length());
+    }
+
+    private void write(String text, int end) {
+        if (output == null) {
+            parameters.append(text, 0, end);
+            return;
+        }
+        if (error == null) {
+            try {
+                output.append(text, 0, end);
+            } catch (IOException e) {
+                error = e;
+            }
+        }
     }
 }
@@ -0,0 +1,272 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     Pipeline.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.02, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pipelined sequence of SQL subroutine calls.
+ *
+ * <p>Merges a sequence of call plans into a single statement (e.g. an
+ * anonymous block) built by a pluggable dialect, so the whole sequence is
+ * executed with a single round trip. Parameters of each plan are bound at
+ * the offset of the plan in the statement and output values are written
+ * back to the values of each plan.
+ *
+ * @see Plan
+ * @see Dialect
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class Pipeline {
+
+    /**
+     * PL/SQL anonymous block dialect.
+     *
+     * @since v1.1
+     */
+    public static final Dialect PLSQL = new Dialect() {
+
+        @Override
+        public String createSql(List<Plan> plans) {
+            StringBuilder sql = new StringBuilder("BEGIN");
+            for (Plan plan : plans) {
+                sql.append(' ');
+                int first = 0;
+                if (plan.isFunction()) {
+                    sql.append("? := ");
+                    first = 1;
+                }
+                sql.append(plan.getName()).append('(');
+                for (int i = first; i < plan.getSize(); i++) {
+                    sql.append(i > first ? ", ?" : "?");
+                }
+                sql.append(");");
+            }
+            return sql.append(" END;").toString();
+        }
+    };
+
+    private final Dialect dialect;
+    private final String name;
+    private final List<Plan> plans;
+    private String sql;
+    private int total;
+    private final List<Object[]> values;
+
+    /**
+     * Creates a new instance of pipeline.
+     *
+     * @param name pipeline name reported to execution listeners.
+     * @param dialect SQL dialect.
+     *
+     * @see Dialect
+     *
+     * @since v1.1
+     */
+    public Pipeline(String name, Dialect dialect) {
+        this.dialect = dialect;
+        this.name = name;
+        this.plans = new ArrayList<Plan>();
+        this.values = new ArrayList<Object[]>();
+    }
+
+    /**
+     * Gets SQL dialect.
+     *
+     * @return SQL dialect.
+     *
+     * @see Dialect
+     *
+     * @since v1.1
+     */
+    public Dialect getDialect() {
+        return dialect;
+    }
+
+    /**
+     * Gets pipeline name.
+     *
+     * @return pipeline name.
+     *
+     * @since v1.1
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets number of pipelined calls.
+     *
+     * @return number of calls.
+     *
+     * @since v1.1
+     */
+    public int getSize() {
+        return plans.size();
+    }
+
+    /**
+     * Gets SQL statement of the pipeline.
+     *
+     * @return SQL statement.
+     *
+     * @since v1.1
+     */
+    public String getSql() {
+        if (sql == null) {
+            sql = dialect.createSql(plans);
+        }
+        return sql;
+    }
+
+    /**
+     * Appends a new call to the pipeline.
+     *
+     * @param plan SQL subroutine call plan.
+     * @param parameters parameter values by plan slot.
+     * @return call index.
+     * @throws SQLException if values do not match the plan.
+     *
+     * @see Plan
+     *
+     * @since v1.1
+     */
+    public int add(Plan plan, Object[] parameters) throws SQLException {
+        if (parameters.length != plan.getSize()) {
+            throw new SQLException(String.format(
+                    "%s: expected %s values, got %s", plan.getName(),
+                    plan.getSize(), parameters.length));
+        }
+        plans.add(plan);
+        values.add(parameters);
+        total += plan.getSize();
+        sql = null;
+        return plans.size() - 1;
+    }
+
+    /**
+     * Executes all pipelined calls with a single statement.
+     *
+     * @param connection SQL database connection.
+     * @param cache SQL statement cache (optional).
+     * @param listener SQL execution listener (optional).
+     * @throws SQLException if error occurs while executing the calls.
+     *
+     * @see StatementCache
+     * @see Listener
+     *
+     * @since v1.1
+     */
+    public void call(Connection connection, StatementCache cache,
+            Listener listener) throws SQLException {
+        if (plans.isEmpty()) {
+            return;
+        }
+        String statementSql = getSql();
+        long started = System.nanoTime();
+        long prepared = 0;
+        long executed = 0;
+        try {
+            CallableStatement callable = cache != null
+                    ? cache.prepare(connection, statementSql)
+                    : connection.prepareCall(statementSql);
+            boolean tracking = ArrayEncoder.track();
+            try {
+                int offset = 0;
+                for (int i = 0; i < plans.size(); i++) {
+                    Plan plan = plans.get(i);
+                    plan.bind(connection, callable, values.get(i), offset);
+                    offset += plan.getSize();
+                }
+                prepared = System.nanoTime();
+                callable.execute();
+                executed = System.nanoTime();
+                offset = 0;
+                for (int i = 0; i < plans.size(); i++) {
+                    Plan plan = plans.get(i);
+                    plan.parse(connection, callable, values.get(i), offset);
+                    offset += plan.getSize();
+                }
+            } finally {
+                if (tracking) {
+                    ArrayEncoder.release();
+                }
+                if (cache == null) {
+                    callable.close();
+                }
+            }
+        } catch (SQLException e) {
+            report(listener, started, prepared, executed, e);
+            throw e;
+        }
+        report(listener, started, prepared, executed, null);
+    }
+
+    /**
+     * Removes all pipelined calls.
+     *
+     * @since v1.1
+     */
+    public void clear() {
+        plans.clear();
+        values.clear();
+        total = 0;
+        sql = null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%s)", name, plans.size());
+    }
+
+    boolean isRetaining() {
+        for (Plan plan : plans) {
+            if (plan.isRetaining()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void report(Listener listener, long started, long prepared,
+            long executed, SQLException error) {
+        if (listener != null) {
+            long finished = System.nanoTime();
+            prepared = prepared != 0 ? prepared : finished;
+            executed = executed != 0 ? executed : finished;
+            listener.executed(name, total, prepared - started,
+                    executed - prepared, finished - executed, error);
+        }
+    }
+}
@@ -0,0 +1,618 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     Plan.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.05, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.io.Serializable;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.soulwarelabs.jparley.Converter;
+
+/**
+ * Compiled SQL stored subroutine call plan.
+ *
+ * <p>Parameters are defined once in their JDBC order (function result
+ * first) and kept in plain arrays together with the SQL call, so each
+ * execution is an indexed loop over the slots without any parameter
+ * lookups. The plan keeps no invocation state: parameter values are
+ * passed with each call. The plan is not synchronized, so its slots must
+ * not be defined concurrently with calls. A plan can be validated against
+ * the database metadata to catch arity and type mismatches before it is
+ * executed.
+ *
+ * @see StandardExecutor#call(Plan, Object[])
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class Plan implements Serializable {
+
+    private static final byte IN = 1;
+    private static final byte OUT = 2;
+
+    private Converter[] decoders;
+    private Converter[] encoders;
+    private final boolean function;
+    private byte[] modes;
+    private final String name;
+    private int size;
+    private transient String sql;
+    private String[] structs;
+    private int[] types;
+
+    /**
+     * Creates a new instance of procedure call plan.
+     *
+     * @param name procedure name.
+     *
+     * @since v1.1
+     */
+    public Plan(String name) {
+        this(name, false);
+    }
+
+    /**
+     * Creates a new instance of function call plan.
+     *
+     * <p>Function result is the first slot of the plan.
+     *
+     * @param name function name.
+     * @param type function result SQL type code.
+     * @param struct function result SQL structure name (optional).
+     * @param decoder function result SQL data decoder (optional).
+     *
+     * @see Converter
+     *
+     * @since v1.1
+     */
+    public Plan(String name, int type, String struct, Converter decoder) {
+        this(name, true);
+        add(OUT, type, struct, null, decoder);
+    }
+
+    private Plan(String name, boolean function) {
+        this.decoders = new Converter[4];
+        this.encoders = new Converter[4];
+        this.function = function;
+        this.modes = new byte[4];
+        this.name = name;
+        this.structs = new String[4];
+        this.types = new int[4];
+    }
+
+    /**
+     * Checks if the plan is a function call plan.
+     *
+     * @return true if the plan is a function call plan.
+     *
+     * @since v1.1
+     */
+    public boolean isFunction() {
+        return function;
+    }
+
+    /**
+     * Gets subroutine name.
+     *
+     * @return subroutine name.
+     *
+     * @since v1.1
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets number of plan slots (including function result).
+     *
+     * @return number of slots.
+     *
+     * @since v1.1
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets SQL call of the plan.
+     *
+     * @return SQL call.
+     *
+     * @since v1.1
+     */
+    public String getSql() {
+        String result = sql;
+        if (result == null) {
+            SqlCache sqlCache = SqlCache.getInstance();
+            result = sqlCache.get(function ? SqlCache.FUNCTION
+                    : SqlCache.PROCEDURE, name, size);
+            sql = result;
+        }
+        return result;
+    }
+
+    /**
+     * Executes the plan.
+     *
+     * <p>Input values are read from and decoded output values are written
+     * to the slots of specified array.
+     *
+     * @param connection SQL database connection.
+     * @param cache SQL statement cache (optional).
+     * @param values parameter values by slot.
+     * @throws SQLException if error occurs while executing the plan.
+     *
+     * @see StatementCache
+     *
+     * @since v1.1
+     */
+    public void call(Connection connection, StatementCache cache,
+            Object[] values) throws SQLException {
+        call(connection, cache, null, values);
+    }
+
+    /**
+     * Executes the plan reporting to specified execution listener.
+     *
+     * <p>Input values are read from and decoded output values are written
+     * to the slots of specified array.
+     *
+     * @param connection SQL database connection.
+     * @param cache SQL statement cache (optional).
+     * @param listener SQL execution listener (optional).
+     * @param values parameter values by slot.
+     * @throws SQLException if error occurs while executing the plan.
+     *
+     * @see StatementCache
+     * @see Listener
+     *
+     * @since v1.1
+     */
+    public void call(Connection connection, StatementCache cache,
+            Listener listener, Object[] values) throws SQLException {
+        if (values.length != size) {
+            throw new SQLException(String.format(
+                    "%s: expected %s values, got %s", name, size,
+                    values.length));
+        }
+        String statementSql = getSql();
+        long started = System.nanoTime();
+        long prepared = 0;
+        long executed = 0;
+        try {
+            CallableStatement callable = cache != null
+                    ? cache.prepare(connection, statementSql)
+                    : connection.prepareCall(statementSql);
+            boolean tracking = ArrayEncoder.track();
+            try {
+                bind(connection, callable, values, 0);
+                prepared = System.nanoTime();
+                callable.execute();
+                executed = System.nanoTime();
+                parse(connection, callable, values, 0);
+            } finally {
+                if (tracking) {
+                    ArrayEncoder.release();
+                }
+                if (cache == null) {
+                    callable.close();
+                }
+            }
+        } catch (SQLException e) {
+            report(listener, started, prepared, executed, e);
+            throw e;
+        }
+        report(listener, started, prepared, executed, null);
+    }
+
+    /**
+     * Adds a new input parameter slot.
+     *
+     * @param type parameter SQL type code.
+     * @return slot index.
+     *
+     * @since v1.1
+     */
+    public int in(int type) {
+        return add(IN, type, null, null, null);
+    }
+
+    /**
+     * Adds a new input parameter slot.
+     *
+     * @param type parameter SQL type code.
+     * @param encoder parameter SQL data encoder (optional).
+     * @return slot index.
+     *
+     * @see Converter
+     *
+     * @since v1.1
+     */
+    public int in(int type, Converter encoder) {
+        return add(IN, type, null, encoder, null);
+    }
+
+    /**
+     * Adds a new input/output parameter slot.
+     *
+     * @param type parameter SQL type code.
+     * @param struct parameter SQL structure name (optional).
+     * @param encoder parameter SQL data encoder (optional).
+     * @param decoder parameter SQL data decoder (optional).
+     * @return slot index.
+     *
+     * @see Converter
+     *
+     * @since v1.1
+     */
+    public int inOut(int type, String struct, Converter encoder,
+            Converter decoder) {
+        return add((byte) (IN | OUT), type, struct, encoder, decoder);
+    }
+
+    /**
+     * Adds a new output parameter slot.
+     *
+     * @param type parameter SQL type code.
+     * @return slot index.
+     *
+     * @since v1.1
+     */
+    public int out(int type) {
+        return add(OUT, type, null, null, null);
+    }
+
+    /**
+     * Adds a new output parameter slot.
+     *
+     * @param type parameter SQL type code.
+     * @param struct parameter SQL structure name (optional).
+     * @param decoder parameter SQL data decoder (optional).
+     * @return slot index.
+     *
+     * @see Converter
+     *
+     * @since v1.1
+     */
+    public int out(int type, String struct, Converter decoder) {
+        return add(OUT, type, struct, null, decoder);
+    }
+
+    /**
+     * Validates the plan against the database metadata.
+     *
+     * <p>Checks number, direction and SQL type families (e.g. numeric or
+     * character) of the subroutine parameters. Slots of
+     * {@link Types#OTHER} type are not type-checked. A one-part name is
+     * looked up in the current schema and then in the current catalog of
+     * the connection; a two-part name is looked up as a schema subroutine
+     * and then as a package (catalog) subroutine; a three-part name is a
+     * schema package subroutine. Overloaded subroutines are rejected.
+     *
+     * @param connection SQL database connection.
+     * @throws SQLException if the plan does not match the subroutine or
+     *         the subroutine is not found or overloaded.
+     *
+     * @since v1.1
+     */
+    public void validate(Connection connection) throws SQLException {
+        DatabaseMetaData metadata = connection.getMetaData();
+        String[] parts = name.split("\\.");
+        for (int i = 0; i < parts.length; i++) {
+            if (metadata.storesUpperCaseIdentifiers()) {
+                parts[i] = parts[i].toUpperCase();
+            } else if (metadata.storesLowerCaseIdentifiers()) {
+                parts[i] = parts[i].toLowerCase();
+            }
+        }
+        String routine = parts[parts.length - 1];
+        List<int[]> columns = new ArrayList<int[]>();
+        if (parts.length == 1) {
+            String schema = getSchema(connection);
+            String catalog = connection.getCatalog();
+            if (schema != null) {
+                columns = getColumns(metadata, null, schema, routine);
+            }
+            if (columns.isEmpty() && catalog != null) {
+                columns = getColumns(metadata, catalog, null, routine);
+            }
+            if (columns.isEmpty() && schema == null && catalog == null) {
+                columns = getColumns(metadata, null, null, routine);
+            }
+        } else if (parts.length == 2) {
+            columns = getColumns(metadata, null, parts[0], routine);
+            if (columns.isEmpty()) {
+                columns = getColumns(metadata, parts[0], null, routine);
+            }
+        } else {
+            columns = getColumns(metadata, parts[parts.length - 2],
+                    parts[parts.length - 3], routine);
+        }
+        if (columns.isEmpty()) {
+            throw new SQLException(String.format("%s: not found", name));
+        }
+        if (columns.size() != size) {
+            throw new SQLException(String.format(
+                    "%s: expected %s parameters, found %s", name, size,
+                    columns.size()));
+        }
+        StringBuilder errors = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            int[] column = columns.get(i);
+            if (toMode(column[0]) != modes[i]) {
+                errors.append(String.format(" slot %s: direction mismatch;",
+                        i));
+            }
+            if (types[i] != Types.OTHER && column[1] != Types.OTHER
+                    && toFamily(types[i]) != toFamily(column[1])) {
+                errors.append(String.format(
+                        " slot %s: expected type %s, found %s;", i,
+                        types[i], column[1]));
+            }
+        }
+        if (errors.length() > 0) {
+            throw new SQLException(name + ":" + errors);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%s)", name, size);
+    }
+
+    void bind(Connection connection, CallableStatement callable,
+            Object[] values, int offset) throws SQLException {
+        for (int i = 0; i < size; i++) {
+            int position = offset + i + 1;
+            if ((modes[i] & OUT) != 0) {
+                if (structs[i] != null) {
+                    callable.registerOutParameter(position, types[i],
+                            structs[i]);
+                } else {
+                    callable.registerOutParameter(position, types[i]);
+                }
+            }
+            if ((modes[i] & IN) != 0) {
+                Object value = values[i];
+                if (encoders[i] != null) {
+                    value = encoders[i].perform(connection, value);
+                }
+                String typeName = structs[i] != null ? structs[i]
+                        : ArrayEncoder.getTypeName(encoders[i]);
+                if (value == null && typeName != null) {
+                    callable.setNull(position, types[i], typeName);
+                } else if (value == null) {
+                    callable.setNull(position, types[i]);
+                } else if (types[i] != Types.OTHER) {
+                    callable.setObject(position, value, types[i]);
+                } else {
+                    callable.setObject(position, value);
+                }
+            }
+        }
+    }
+
+    boolean isRetaining() {
+        for (int i = 0; i < size; i++) {
+            if (LazyBox.isLazy(decoders[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void parse(Connection connection, CallableStatement callable,
+            Object[] values, int offset) throws SQLException {
+        for (int i = 0; i < size; i++) {
+            if ((modes[i] & OUT) != 0) {
+                Object value = callable.getObject(offset + i + 1);
+                if (decoders[i] != null) {
+                    value = LazyBox.decode(decoders[i], connection, value);
+                }
+                values[i] = value;
+            }
+        }
+    }
+
+    private int add(byte mode, int type, String struct, Converter encoder,
+            Converter decoder) {
+        if (size == modes.length) {
+            int length = size * 2;
+            decoders = grow(decoders, new Converter[length]);
+            encoders = grow(encoders, new Converter[length]);
+            modes = grow(modes, new byte[length]);
+            structs = grow(structs, new String[length]);
+            types = grow(types, new int[length]);
+        }
+        decoders[size] = decoder;
+        encoders[size] = encoder;
+        modes[size] = mode;
+        structs[size] = struct;
+        types[size] = type;
+        sql = null;
+        return size++;
+    }
+
+    private List<int[]> getColumns(DatabaseMetaData metadata,
+            String catalog, String schema, String routine)
+            throws SQLException {
+        List<int[]> columns = new ArrayList<int[]>();
+        String escape = metadata.getSearchStringEscape();
+        ResultSet rows = metadata.getProcedureColumns(catalog,
+                toPattern(schema, escape), toPattern(routine, escape), null);
+        try {
+            String found = null;
+            Set<Integer> positions = new HashSet<Integer>();
+            while (rows.next()) {
+                int mode = rows.getShort("COLUMN_TYPE");
+                if (mode == DatabaseMetaData.procedureColumnResult) {
+                    continue;
+                }
+                String routineKey = rows.getString("PROCEDURE_CAT") + "."
+                        + rows.getString("PROCEDURE_SCHEM") + "."
+                        + rows.getString("PROCEDURE_NAME") + "."
+                        + getSpecificName(rows);
+                if (found == null) {
+                    found = routineKey;
+                }
+                if (!found.equals(routineKey)
+                        || !positions.add(getPosition(rows, columns))) {
+                    throw new SQLException(String.format(
+                            "%s: overloaded or ambiguous", name));
+                }
+                columns.add(new int[] {mode, rows.getInt("DATA_TYPE")});
+            }
+        } finally {
+            rows.close();
+        }
+        return columns;
+    }
+
+    private int getPosition(ResultSet rows, List<int[]> columns) {
+        try {
+            return rows.getInt("ORDINAL_POSITION");
+        } catch (SQLException e) {
+            // column is not provided by drivers predating JDBC 4.0
+            return columns.size();
+        }
+    }
+
+    private String getSchema(Connection connection) throws SQLException {
+        try {
+            return connection.getSchema();
+        } catch (AbstractMethodError e) {
+            // driver predates JDBC 4.1
+            return null;
+        } catch (SQLFeatureNotSupportedException e) {
+            // driver has no notion of the current schema
+            return null;
+        }
+    }
+
+    private String getSpecificName(ResultSet rows) {
+        try {
+            return rows.getString("SPECIFIC_NAME");
+        } catch (SQLException e) {
+            // column is not provided by drivers predating JDBC 4.0
+            return null;
+        }
+    }
+
+    private <T> T grow(T source, T target) {
+        System.arraycopy(source, 0, target, 0, size);
+        return target;
+    }
+
+    private void report(Listener listener, long started, long prepared,
+            long executed, SQLException error) {
+        if (listener != null) {
+            long finished = System.nanoTime();
+            prepared = prepared != 0 ? prepared : finished;
+            executed = executed != 0 ? executed : finished;
+            listener.executed(name, size, prepared - started,
+                    executed - prepared, finished - executed, error);
+        }
+    }
+
+    private int toFamily(int type) {
+        switch (type) {
+        case Types.BIGINT:
+        case Types.DECIMAL:
+        case Types.DOUBLE:
+        case Types.FLOAT:
+        case Types.INTEGER:
+        case Types.NUMERIC:
+        case Types.REAL:
+        case Types.SMALLINT:
+        case Types.TINYINT:
+            return Types.NUMERIC;
+        case Types.CHAR:
+        case Types.CLOB:
+        case Types.LONGNVARCHAR:
+        case Types.LONGVARCHAR:
+        case Types.NCHAR:
+        case Types.NCLOB:
+        case Types.NVARCHAR:
+        case Types.VARCHAR:
+            return Types.VARCHAR;
+        case Types.BINARY:
+        case Types.BLOB:
+        case Types.LONGVARBINARY:
+        case Types.VARBINARY:
+            return Types.VARBINARY;
+        case Types.DATE:
+        case Types.TIME:
+        case Types.TIMESTAMP:
+            return Types.TIMESTAMP;
+        case Types.BIT:
+        case Types.BOOLEAN:
+            return Types.BOOLEAN;
+        default:
+            return type;
+        }
+    }
+
+    private byte toMode(int column) {
+        switch (column) {
+        case DatabaseMetaData.procedureColumnIn:
+            return IN;
+        case DatabaseMetaData.procedureColumnInOut:
+            return IN | OUT;
+        case DatabaseMetaData.procedureColumnOut:
+        case DatabaseMetaData.procedureColumnReturn:
+            return OUT;
+        default:
+            return 0;
+        }
+    }
+
+    private String toPattern(String identifier, String escape) {
+        if (identifier == null || escape == null || escape.length() == 0) {
+            return identifier;
+        }
+        StringBuilder pattern = new StringBuilder(identifier.length() + 4);
+        for (int i = 0; i < identifier.length(); i++) {
+            char symbol = identifier.charAt(i);
+            if (symbol == '_' || symbol == '%'
+                    || escape.indexOf(symbol) >= 0) {
+                pattern.append(escape);
+            }
+            pattern.append(symbol);
+        }
+        return pattern.toString();
+    }
+}
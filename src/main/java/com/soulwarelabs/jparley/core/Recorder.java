@@ -0,0 +1,430 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     Recorder.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.03, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.soulwarelabs.jcommons.Box;
+
+/**
+ * Flight recorder of SQL subroutine calls.
+ *
+ * <p>Keeps structured information about recent calls (subroutine name,
+ * parameter keys, types, structures and, optionally, values) in a
+ * lock-free ring buffer without any text formatting. The buffer can be
+ * dumped on demand or automatically by a background executor when a call
+ * exceeds a latency threshold, if the recorder is used as an execution
+ * listener.
+ *
+ * <p>Call slots are allocated once and overwritten in place, so recording
+ * does not allocate memory. A call whose slot is being read by a dump at
+ * the same moment is not recorded.
+ *
+ * @see Listener
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class Recorder implements Listener {
+
+    private static class Call implements FrameInterviewer {
+
+        private final AtomicBoolean busy;
+        private int count;
+        private final int[] indexes;
+        private final String[] keys;
+        private String name;
+        private final Object[] objects;
+        private final boolean[] primitives;
+        private long sequence;
+        private final String[] structs;
+        private long time;
+        private final int[] types;
+        private final long[] values;
+
+        public Call(int width, boolean valuesRecorded) {
+            this.busy = new AtomicBoolean();
+            this.indexes = new int[width];
+            this.keys = new String[width];
+            this.objects = valuesRecorded ? new Object[width] : null;
+            this.primitives = new boolean[width];
+            this.sequence = NO_SEQUENCE;
+            this.structs = new String[width];
+            this.types = new int[width];
+            this.values = valuesRecorded ? new long[width] : null;
+        }
+
+        @Override
+        public void perform(int index, Box<?> input, Box<Object> output,
+                Integer type, String struct) {
+            Object value = input != null ? input.getValue() : null;
+            store(index, null, value, type, struct);
+        }
+
+        @Override
+        public void perform(int index, double input) {
+            store(index, Double.doubleToRawLongBits(input), Types.DOUBLE);
+        }
+
+        @Override
+        public void perform(int index, int input) {
+            store(index, input, Types.INTEGER);
+        }
+
+        @Override
+        public void perform(int index, long input) {
+            store(index, input, Types.BIGINT);
+        }
+
+        @Override
+        public void perform(String name, Box<?> input, Box<Object> output,
+                Integer type, String struct) {
+            Object value = input != null ? input.getValue() : null;
+            store(NO_INDEX, name, value, type, struct);
+        }
+
+        public void clear() {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = null;
+                structs[i] = null;
+                if (objects != null) {
+                    objects[i] = null;
+                }
+            }
+            count = 0;
+            name = null;
+            sequence = NO_SEQUENCE;
+        }
+
+        public void copy(Call call) {
+            int length = Math.min(call.count, keys.length);
+            System.arraycopy(call.indexes, 0, indexes, 0, length);
+            System.arraycopy(call.keys, 0, keys, 0, length);
+            System.arraycopy(call.primitives, 0, primitives, 0, length);
+            System.arraycopy(call.structs, 0, structs, 0, length);
+            System.arraycopy(call.types, 0, types, 0, length);
+            if (objects != null) {
+                System.arraycopy(call.objects, 0, objects, 0, length);
+                System.arraycopy(call.values, 0, values, 0, length);
+            }
+            count = call.count;
+            name = call.name;
+            sequence = call.sequence;
+            time = call.time;
+        }
+
+        public void start(long sequence, String name) {
+            this.count = 0;
+            this.name = name;
+            this.sequence = sequence;
+            this.time = System.currentTimeMillis();
+        }
+
+        public void write(Appendable output) throws IOException {
+            output.append(String.valueOf(time));
+            output.append(" ");
+            output.append(name);
+            output.append(" {");
+            for (int i = 0; i < Math.min(count, keys.length); i++) {
+                output.append(i > 0 ? ", " : "");
+                output.append(indexes[i] != NO_INDEX
+                        ? String.valueOf(indexes[i]) : keys[i]);
+                output.append(" (");
+                output.append(types[i] != NO_TYPE
+                        ? String.valueOf(types[i]) : "null");
+                output.append("/");
+                output.append(structs[i]);
+                output.append(")");
+                if (objects != null) {
+                    output.append(" = ");
+                    output.append(toString(i));
+                }
+            }
+            if (count > keys.length) {
+                output.append(", ...");
+            }
+            output.append("}\r\n");
+        }
+
+        private void store(int index, long value, int type) {
+            int position = count++;
+            if (position < keys.length) {
+                indexes[position] = index;
+                keys[position] = null;
+                primitives[position] = true;
+                types[position] = type;
+                structs[position] = null;
+                if (objects != null) {
+                    objects[position] = null;
+                    values[position] = value;
+                }
+            }
+        }
+
+        private void store(int index, String name, Object value,
+                Integer type, String struct) {
+            int position = count++;
+            if (position < keys.length) {
+                indexes[position] = index;
+                keys[position] = name;
+                primitives[position] = false;
+                types[position] = type != null ? type : NO_TYPE;
+                structs[position] = struct;
+                if (objects != null) {
+                    objects[position] = value;
+                }
+            }
+        }
+
+        private String toString(int position) {
+            if (!primitives[position]) {
+                return String.valueOf(objects[position]);
+            }
+            if (types[position] == Types.DOUBLE) {
+                return String.valueOf(
+                        Double.longBitsToDouble(values[position]));
+            }
+            return String.valueOf(values[position]);
+        }
+    }
+
+    private static final int NO_INDEX = -1;
+    private static final long NO_SEQUENCE = -1;
+    private static final int NO_TYPE = Integer.MIN_VALUE;
+
+    private final Call[] calls;
+    private volatile Executor dumper;
+    private final AtomicBoolean dumping;
+    private final AtomicLong recorded;
+    private volatile Appendable sink;
+    private volatile long threshold;
+    private final boolean valuesRecorded;
+    private final int width;
+
+    /**
+     * Creates a new instance of recorder.
+     *
+     * @param capacity number of recorded calls kept.
+     * @param width maximum number of recorded parameters per call.
+     * @param valuesRecorded true if parameter values should be recorded.
+     *
+     * @since v1.1
+     */
+    public Recorder(int capacity, int width, boolean valuesRecorded) {
+        this.calls = new Call[capacity];
+        for (int i = 0; i < capacity; i++) {
+            calls[i] = new Call(width, valuesRecorded);
+        }
+        this.dumping = new AtomicBoolean();
+        this.recorded = new AtomicLong();
+        this.threshold = Long.MAX_VALUE;
+        this.valuesRecorded = valuesRecorded;
+        this.width = width;
+    }
+
+    /**
+     * Gets background executor of automatic dumps (optional).
+     *
+     * @return background executor (optional).
+     *
+     * @since v1.1
+     */
+    public Executor getDumper() {
+        return dumper;
+    }
+
+    /**
+     * Gets automatic dump output (optional).
+     *
+     * @return text output (optional).
+     *
+     * @since v1.1
+     */
+    public Appendable getSink() {
+        return sink;
+    }
+
+    /**
+     * Gets latency threshold triggering automatic dump.
+     *
+     * @return latency threshold in nanoseconds.
+     *
+     * @since v1.1
+     */
+    public long getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Sets a new automatic dump for slow calls.
+     *
+     * <p>Dumps are performed by specified background executor, so that
+     * slow calls are not delayed by writing the buffer; a dump requested
+     * while another one is still pending is skipped.
+     *
+     * @param threshold latency threshold in nanoseconds.
+     * @param sink text output (optional).
+     * @param dumper background executor (optional).
+     *
+     * @since v1.1
+     */
+    public void setThreshold(long threshold, Appendable sink,
+            Executor dumper) {
+        this.dumper = dumper;
+        this.sink = sink;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Checks if parameter values are recorded.
+     *
+     * @return true if values are recorded.
+     *
+     * @since v1.1
+     */
+    public boolean isValuesRecorded() {
+        return valuesRecorded;
+    }
+
+    @Override
+    public void connected(long waitTime, SQLException error) {
+        // connection acquisition is not recorded
+    }
+
+    /**
+     * Writes all recorded calls from the oldest to the newest one.
+     *
+     * <p>Calls recorded concurrently with the dump may be either written
+     * or skipped.
+     *
+     * @param output text output.
+     * @throws IOException if error occurs while writing the calls.
+     *
+     * @since v1.1
+     */
+    public void dump(Appendable output) throws IOException {
+        Call copy = new Call(width, valuesRecorded);
+        int capacity = calls.length;
+        long last = recorded.get();
+        long first = Math.max(0, last - capacity);
+        for (long sequence = first; sequence < last; sequence++) {
+            Call call = calls[(int) (sequence % capacity)];
+            if (!call.busy.compareAndSet(false, true)) {
+                continue;
+            }
+            try {
+                copy.copy(call);
+            } finally {
+                call.busy.set(false);
+            }
+            if (copy.sequence == sequence) {
+                copy.write(output);
+            }
+        }
+    }
+
+    @Override
+    public void executed(String name, int parametersNumber, long prepareTime,
+            long executeTime, long parseTime, SQLException error) {
+        if (prepareTime + executeTime + parseTime < threshold) {
+            return;
+        }
+        final Appendable output = sink;
+        Executor background = dumper;
+        if (output == null || background == null
+                || !dumping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            background.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    dumping.set(false);
+                    try {
+                        synchronized (output) {
+                            dump(output);
+                        }
+                    } catch (IOException e) {
+                        // diagnostics must not affect subroutine execution
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            dumping.set(false);
+        }
+    }
+
+    /**
+     * Records a call of specified subroutine.
+     *
+     * @param subroutine SQL subroutine.
+     *
+     * @see StandardSubroutine
+     *
+     * @since v1.1
+     */
+    public void record(StandardSubroutine subroutine) {
+        long sequence = recorded.getAndIncrement();
+        Call call = calls[(int) (sequence % calls.length)];
+        if (!call.busy.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (call.sequence < sequence) {
+                call.start(sequence, subroutine.getName());
+                subroutine.interview(call);
+            }
+        } finally {
+            call.busy.set(false);
+        }
+    }
+
+    /**
+     * Removes all recorded calls.
+     *
+     * @since v1.1
+     */
+    public void reset() {
+        for (Call call : calls) {
+            if (call.busy.compareAndSet(false, true)) {
+                try {
+                    call.clear();
+                } finally {
+                    call.busy.set(false);
+                }
+            }
+        }
+    }
+}
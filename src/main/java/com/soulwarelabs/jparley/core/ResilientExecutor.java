@@ -0,0 +1,408 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     ResilientExecutor.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.02, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.soulwarelabs.jparley.Executor;
+import com.soulwarelabs.jparley.Function;
+import com.soulwarelabs.jparley.Subroutine;
+
+/**
+ * SQL subroutines executor with retries and circuit breakers.
+ *
+ * <p>Calls failed with a transient error (classified by SQL state) are
+ * retried with jittered exponential backoff, but only if all called
+ * subroutines are marked as idempotent. Each subroutine name has its own
+ * circuit breaker, and the number of concurrent calls is limited. If a
+ * retry is rejected by an open circuit breaker, the last call error is
+ * thrown with the rejection chained as its next exception.
+ *
+ * @see Executor
+ * @see CircuitBreaker
+ * @see StandardSubroutine#isIdempotent()
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class ResilientExecutor implements Executor {
+
+    /**
+     * Default transient SQL states and SQL state classes.
+     *
+     * @since v1.1
+     */
+    public static final String[] TRANSIENT_STATES = {"08", "40001", "40P01",
+            "57P01", "57P02", "57P03", "HYT00", "HYT01"};
+
+    private int attempts;
+    private final ConcurrentMap<String, CircuitBreaker> breakers;
+    private long delay;
+    private final Executor executor;
+    private int failuresThreshold;
+    private long maxDelay;
+    private long openTime;
+    private final Semaphore permits;
+    private final Random random;
+    private Set<String> states;
+    private long timeout;
+
+    /**
+     * Creates a new instance of resilient executor.
+     *
+     * @param executor SQL subroutines executor.
+     * @param limit maximum number of concurrent calls.
+     *
+     * @see Executor
+     *
+     * @since v1.1
+     */
+    public ResilientExecutor(Executor executor, int limit) {
+        this.attempts = 3;
+        this.breakers = new ConcurrentHashMap<String, CircuitBreaker>();
+        this.delay = TimeUnit.MILLISECONDS.toNanos(50);
+        this.executor = executor;
+        this.failuresThreshold = 5;
+        this.maxDelay = TimeUnit.SECONDS.toNanos(2);
+        this.openTime = TimeUnit.SECONDS.toNanos(10);
+        this.permits = new Semaphore(limit);
+        this.random = new Random();
+        this.states = new HashSet<String>(Arrays.asList(TRANSIENT_STATES));
+    }
+
+    /**
+     * Gets maximum number of call attempts.
+     *
+     * @return number of attempts.
+     *
+     * @since v1.1
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Sets a new maximum number of call attempts.
+     *
+     * @param attempts number of attempts.
+     *
+     * @since v1.1
+     */
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    /**
+     * Gets circuit breaker of specified subroutine.
+     *
+     * @param name subroutine name.
+     * @return circuit breaker.
+     *
+     * @see CircuitBreaker
+     *
+     * @since v1.1
+     */
+    public CircuitBreaker getBreaker(String name) {
+        String key = String.valueOf(name);
+        CircuitBreaker breaker = breakers.get(key);
+        if (breaker == null) {
+            CircuitBreaker created =
+                    new CircuitBreaker(failuresThreshold, openTime);
+            breaker = breakers.putIfAbsent(key, created);
+            breaker = breaker != null ? breaker : created;
+        }
+        return breaker;
+    }
+
+    /**
+     * Sets new circuit breakers settings.
+     *
+     * <p>Applied to circuit breakers created afterwards.
+     *
+     * @param failuresThreshold number of consecutive failures opening a
+     *        breaker.
+     * @param openTime time before a probing call is permitted.
+     * @param unit open time unit.
+     *
+     * @since v1.1
+     */
+    public void setBreakers(int failuresThreshold, long openTime,
+            TimeUnit unit) {
+        this.failuresThreshold = failuresThreshold;
+        this.openTime = unit.toNanos(openTime);
+    }
+
+    /**
+     * Sets new retry backoff delays.
+     *
+     * @param delay initial backoff delay.
+     * @param maxDelay maximum backoff delay.
+     * @param unit delays unit.
+     *
+     * @since v1.1
+     */
+    public void setDelays(long delay, long maxDelay, TimeUnit unit) {
+        this.delay = unit.toNanos(delay);
+        this.maxDelay = unit.toNanos(maxDelay);
+    }
+
+    /**
+     * Gets underlying SQL subroutines executor.
+     *
+     * @return SQL subroutines executor.
+     *
+     * @see Executor
+     *
+     * @since v1.1
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Gets transient SQL states and SQL state classes.
+     *
+     * @return SQL states.
+     *
+     * @since v1.1
+     */
+    public Set<String> getStates() {
+        return states;
+    }
+
+    /**
+     * Sets new transient SQL states and SQL state classes.
+     *
+     * @param states SQL states.
+     *
+     * @since v1.1
+     */
+    public void setStates(Set<String> states) {
+        this.states = states;
+    }
+
+    /**
+     * Gets concurrency limit wait timeout.
+     *
+     * @return timeout in nanoseconds (zero for fail-fast).
+     *
+     * @since v1.1
+     */
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Sets a new concurrency limit wait timeout.
+     *
+     * @param timeout wait timeout (zero for fail-fast).
+     * @param unit timeout unit.
+     *
+     * @since v1.1
+     */
+    public void setTimeout(long timeout, TimeUnit unit) {
+        this.timeout = unit.toNanos(timeout);
+    }
+
+    @Override
+    public void call(final Subroutine ... subroutines) throws SQLException {
+        Set<String> names = new TreeSet<String>();
+        boolean idempotent = true;
+        for (Subroutine subroutine : subroutines) {
+            names.add(String.valueOf(subroutine.getName()));
+            idempotent &= isIdempotent(subroutine);
+        }
+        execute(names, idempotent, new Callable<Object>() {
+
+            @Override
+            public Object call() throws Exception {
+                executor.call(subroutines);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Object call(final Function function, final Object ... parameters)
+            throws SQLException {
+        Set<String> names = new TreeSet<String>();
+        names.add(String.valueOf(function.getName()));
+        return execute(names, isIdempotent(function), new Callable<Object>() {
+
+            @Override
+            public Object call() throws Exception {
+                return executor.call(function, parameters);
+            }
+        });
+    }
+
+    /**
+     * Checks if specified SQL error is transient.
+     *
+     * @param error SQL error.
+     * @return true if the error is transient.
+     *
+     * @since v1.1
+     */
+    public boolean isTransient(SQLException error) {
+        String state = error.getSQLState();
+        if (state == null) {
+            return false;
+        }
+        return states.contains(state) || (state.length() >= 2
+                && states.contains(state.substring(0, 2)));
+    }
+
+    private void acquire() throws SQLException {
+        boolean acquired;
+        try {
+            acquired = timeout > 0
+                    ? permits.tryAcquire(timeout, TimeUnit.NANOSECONDS)
+                    : permits.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            SQLException error = new SQLException("interrupted while waiting");
+            error.initCause(e);
+            throw error;
+        }
+        if (!acquired) {
+            throw new SQLException("concurrency limit exceeded");
+        }
+    }
+
+    private void backoff(int attempt) throws SQLException {
+        long bound = delay << Math.min(attempt, 30);
+        bound = bound > 0 ? Math.min(bound, maxDelay) : maxDelay;
+        long pause = (long) (random.nextDouble() * bound);
+        try {
+            TimeUnit.NANOSECONDS.sleep(pause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            SQLException error = new SQLException("interrupted while waiting");
+            error.initCause(e);
+            throw error;
+        }
+    }
+
+    private Object execute(Set<String> names, boolean idempotent,
+            Callable<Object> task) throws SQLException {
+        CircuitBreaker[] called = new CircuitBreaker[names.size()];
+        int[] permissions = new int[called.length];
+        SQLException last = null;
+        for (int attempt = 0; ; attempt++) {
+            try {
+                open(names, called, permissions);
+            } catch (SQLException e) {
+                throw chain(last, e);
+            }
+            try {
+                acquire();
+            } catch (SQLException e) {
+                cancel(called, permissions, called.length);
+                throw chain(last, e);
+            }
+            try {
+                Object result = task.call();
+                for (int i = 0; i < called.length; i++) {
+                    called[i].success(permissions[i]);
+                }
+                return result;
+            } catch (SQLException e) {
+                boolean transientError = isTransient(e);
+                for (int i = 0; i < called.length; i++) {
+                    if (transientError) {
+                        called[i].failure(permissions[i]);
+                    } else {
+                        called[i].cancel(permissions[i]);
+                    }
+                }
+                if (!transientError || !idempotent
+                        || attempt + 1 >= attempts) {
+                    throw e;
+                }
+                last = e;
+            } catch (RuntimeException e) {
+                cancel(called, permissions, called.length);
+                throw e;
+            } catch (Exception e) {
+                cancel(called, permissions, called.length);
+                SQLException error = new SQLException("call failed");
+                error.initCause(e);
+                throw error;
+            } finally {
+                permits.release();
+            }
+            backoff(attempt);
+        }
+    }
+
+    private void cancel(CircuitBreaker[] breakers, int[] permissions,
+            int number) {
+        for (int i = 0; i < number; i++) {
+            breakers[i].cancel(permissions[i]);
+        }
+    }
+
+    private SQLException chain(SQLException last, SQLException error) {
+        if (last == null) {
+            return error;
+        }
+        last.setNextException(error);
+        return last;
+    }
+
+    private boolean isIdempotent(Subroutine subroutine) {
+        return subroutine instanceof StandardSubroutine
+                && ((StandardSubroutine) subroutine).isIdempotent();
+    }
+
+    private void open(Set<String> names, CircuitBreaker[] called,
+            int[] permissions) throws SQLException {
+        int i = 0;
+        for (String name : names) {
+            called[i] = getBreaker(name);
+            permissions[i] = called[i].acquire();
+            if (permissions[i] == CircuitBreaker.REJECTED) {
+                cancel(called, permissions, i);
+                throw new SQLException(String.format(
+                        "circuit breaker is open: %s", name));
+            }
+            i++;
+        }
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     RoutingExecutor.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.02, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import com.soulwarelabs.jcommons.sql.ConnectionPool;
+
+import com.soulwarelabs.jparley.Subroutine;
+
+/**
+ * SQL subroutines executor routing reads to database replicas.
+ *
+ * <p>Calls of read-only subroutines (either marked as read-only or matching
+ * the read-only name pattern) are routed to the healthy replica with the
+ * least calls in flight, all other calls are executed against the primary
+ * connection pool. A replica is marked unhealthy for the cool-down time
+ * once its smoothed call latency exceeds the threshold or a connection
+ * cannot be taken from it. If no replica is available, reads are executed
+ * against the primary.
+ *
+ * @see StandardExecutor
+ * @see StandardSubroutine#isReadOnly()
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class RoutingExecutor extends StandardExecutor {
+
+    private static class Replica {
+
+        private final AtomicInteger inFlight;
+        private volatile long latency;
+        private final ConnectionPool pool;
+        private volatile long unhealthyUntil;
+
+        public Replica(ConnectionPool pool) {
+            this.inFlight = new AtomicInteger();
+            this.pool = pool;
+            this.unhealthyUntil = System.nanoTime();
+        }
+    }
+
+    private long cooldown;
+    private Pattern pattern;
+    private final Replica[] replicas;
+    private long threshold;
+
+    /**
+     * Creates a new instance of routing executor.
+     *
+     * @param pool primary SQL database connection pool.
+     * @param replicas replica SQL database connection pools.
+     *
+     * @see ConnectionPool
+     *
+     * @since v1.1
+     */
+    public RoutingExecutor(ConnectionPool pool, ConnectionPool ... replicas) {
+        this(pool, null, null, replicas);
+    }
+
+    /**
+     * Creates a new instance of routing executor.
+     *
+     * @param pool primary SQL database connection pool.
+     * @param preInterceptor SQL pre-execution interceptor (optional).
+     * @param postInterceptor SQL post-execution interceptor (optional).
+     * @param replicas replica SQL database connection pools.
+     *
+     * @see ConnectionPool
+     * @see Interceptor
+     *
+     * @since v1.1
+     */
+    public RoutingExecutor(ConnectionPool pool, Interceptor preInterceptor,
+            Interceptor postInterceptor, ConnectionPool ... replicas) {
+        super(pool, preInterceptor, postInterceptor);
+        this.cooldown = TimeUnit.SECONDS.toNanos(30);
+        this.replicas = new Replica[replicas.length];
+        for (int i = 0; i < replicas.length; i++) {
+            this.replicas[i] = new Replica(replicas[i]);
+        }
+    }
+
+    /**
+     * Gets time a replica stays unhealthy.
+     *
+     * @return cool-down time in nanoseconds.
+     *
+     * @since v1.1
+     */
+    public long getCooldown() {
+        return cooldown;
+    }
+
+    /**
+     * Sets a new time a replica stays unhealthy.
+     *
+     * @param cooldown cool-down time.
+     * @param unit cool-down time unit.
+     *
+     * @since v1.1
+     */
+    public void setCooldown(long cooldown, TimeUnit unit) {
+        this.cooldown = unit.toNanos(cooldown);
+    }
+
+    /**
+     * Gets name pattern of read-only subroutines.
+     *
+     * @return name pattern (optional).
+     *
+     * @since v1.1
+     */
+    public Pattern getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Sets a new name pattern of read-only subroutines.
+     *
+     * @param pattern name pattern (optional).
+     *
+     * @since v1.1
+     */
+    public void setPattern(Pattern pattern) {
+        this.pattern = pattern;
+    }
+
+    /**
+     * Gets replica SQL database connection pools.
+     *
+     * @return replica connection pools.
+     *
+     * @see ConnectionPool
+     *
+     * @since v1.1
+     */
+    public List<ConnectionPool> getReplicas() {
+        List<ConnectionPool> pools = new ArrayList<ConnectionPool>();
+        for (Replica replica : replicas) {
+            pools.add(replica.pool);
+        }
+        return pools;
+    }
+
+    /**
+     * Gets smoothed call latency threshold of healthy replicas.
+     *
+     * @return latency threshold in nanoseconds (zero for no threshold).
+     *
+     * @since v1.1
+     */
+    public long getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Sets a new smoothed call latency threshold of healthy replicas.
+     *
+     * @param threshold latency threshold (zero for no threshold).
+     * @param unit latency threshold unit.
+     *
+     * @since v1.1
+     */
+    public void setThreshold(long threshold, TimeUnit unit) {
+        this.threshold = unit.toNanos(threshold);
+    }
+
+    @Override
+    public void call(Subroutine ... subroutines) throws SQLException {
+        boolean readOnly = subroutines.length > 0;
+        for (Subroutine subroutine : subroutines) {
+            readOnly &= isReadOnly(subroutine);
+        }
+        Replica replica = readOnly ? choose() : null;
+        Connection connection = replica != null ? take(replica) : null;
+        if (connection == null) {
+            super.call(subroutines);
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            execute(connection, subroutines);
+        } finally {
+            release(replica, started);
+            close(connection);
+        }
+    }
+
+    @Override
+    public Object call(FunctionDescriptor function, Object ... parameters)
+            throws SQLException {
+        Replica replica = matches(function.getName()) ? choose() : null;
+        Connection connection = replica != null ? take(replica) : null;
+        if (connection == null) {
+            return super.call(function, parameters);
+        }
+        long started = System.nanoTime();
+        try {
+            before(connection);
+            Object result = function.call(connection, getHeldCache(),
+                    getListener(), parameters);
+            after(connection);
+            return result;
+        } finally {
+            release(replica, started);
+            close(connection);
+        }
+    }
+
+    /**
+     * Checks if specified replica is healthy.
+     *
+     * @param index replica index.
+     * @return true if the replica is healthy.
+     *
+     * @since v1.1
+     */
+    public boolean isHealthy(int index) {
+        return replicas[index].unhealthyUntil - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Gets number of calls in flight on specified replica.
+     *
+     * @param index replica index.
+     * @return number of calls.
+     *
+     * @since v1.1
+     */
+    public int getInFlight(int index) {
+        return replicas[index].inFlight.get();
+    }
+
+    private Replica choose() {
+        long now = System.nanoTime();
+        Replica chosen = null;
+        int least = Integer.MAX_VALUE;
+        for (Replica replica : replicas) {
+            int inFlight = replica.inFlight.get();
+            if (replica.unhealthyUntil - now <= 0 && inFlight < least) {
+                chosen = replica;
+                least = inFlight;
+            }
+        }
+        return chosen;
+    }
+
+    private boolean isReadOnly(Subroutine subroutine) {
+        if (subroutine instanceof StandardSubroutine
+                && ((StandardSubroutine) subroutine).isReadOnly()) {
+            return true;
+        }
+        return matches(subroutine.getName());
+    }
+
+    private void mark(Replica replica) {
+        replica.latency = 0;
+        replica.unhealthyUntil = System.nanoTime() + cooldown;
+    }
+
+    private boolean matches(String name) {
+        return pattern != null && name != null
+                && pattern.matcher(name).matches();
+    }
+
+    private void release(Replica replica, long started) {
+        replica.inFlight.decrementAndGet();
+        long latency = System.nanoTime() - started;
+        long smoothed = replica.latency;
+        smoothed = smoothed != 0 ? smoothed + (latency - smoothed) / 8
+                : latency;
+        replica.latency = smoothed;
+        if (threshold > 0 && smoothed > threshold) {
+            mark(replica);
+        }
+    }
+
+    private Connection take(Replica replica) {
+        replica.inFlight.incrementAndGet();
+        try {
+            return open(replica.pool);
+        } catch (SQLException e) {
+            replica.inFlight.decrementAndGet();
+            mark(replica);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     ShardKey.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.01, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.sql.SQLException;
+
+import com.soulwarelabs.jcommons.Box;
+
+/**
+ * SQL subroutine shard key extractor.
+ *
+ * <p>Extracts the shard key from the input value of a registered parameter
+ * specified by its index or name.
+ *
+ * @see ShardingExecutor
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public final class ShardKey {
+
+    private class Extractor implements Interviewer {
+
+        private boolean found;
+        private Object value;
+
+        @Override
+        public void perform(int parameterIndex, Box<?> input,
+                Box<Object> output, Integer type, String struct) {
+            if (name == null && parameterIndex == index && input != null) {
+                found = true;
+                value = input.getValue();
+            }
+        }
+
+        @Override
+        public void perform(String parameterName, Box<?> input,
+                Box<Object> output, Integer type, String struct) {
+            if (name != null && name.equals(parameterName) && input != null) {
+                found = true;
+                value = input.getValue();
+            }
+        }
+    }
+
+    private final int index;
+    private final String name;
+
+    /**
+     * Creates a new instance of shard key extractor.
+     *
+     * @param index key parameter index.
+     *
+     * @since v1.1
+     */
+    public ShardKey(int index) {
+        this.index = index;
+        this.name = null;
+    }
+
+    /**
+     * Creates a new instance of shard key extractor.
+     *
+     * @param name key parameter name.
+     *
+     * @since v1.1
+     */
+    public ShardKey(String name) {
+        this.index = -1;
+        this.name = name;
+    }
+
+    /**
+     * Gets key parameter index.
+     *
+     * @return parameter index (negative for named parameter).
+     *
+     * @since v1.1
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets key parameter name.
+     *
+     * @return parameter name (optional).
+     *
+     * @since v1.1
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Extracts the shard key of specified subroutine.
+     *
+     * @param subroutine SQL subroutine.
+     * @return shard key (optional).
+     * @throws SQLException if the key parameter is not registered as an
+     *         input parameter.
+     *
+     * @see StandardSubroutine
+     *
+     * @since v1.1
+     */
+    public Object extract(StandardSubroutine subroutine) throws SQLException {
+        Extractor extractor = new Extractor();
+        subroutine.interview(extractor);
+        if (!extractor.found) {
+            throw new SQLException(String.format(
+                    "%s: shard key parameter %s is not registered",
+                    subroutine.getName(), this));
+        }
+        return extractor.value;
+    }
+
+    @Override
+    public String toString() {
+        return name != null ? name : String.valueOf(index);
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     ShardingExecutor.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.01, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.soulwarelabs.jparley.Executor;
+import com.soulwarelabs.jparley.Function;
+import com.soulwarelabs.jparley.Subroutine;
+
+/**
+ * SQL subroutines executor routing calls to database shards.
+ *
+ * <p>Each call is routed to the shard executor located by the ring for the
+ * shard key extracted from the registered parameters of the called
+ * subroutines. All subroutines of a single call have to belong to the same
+ * shard. Functions can also be executed on all shards in parallel.
+ *
+ * @see ShardKey
+ * @see Ring
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class ShardingExecutor implements Executor {
+
+    private final ShardKey key;
+    private final Ring ring;
+    private final StandardExecutor[] shards;
+    private final ExecutorService workers;
+
+    /**
+     * Creates a new instance of sharding executor.
+     *
+     * @param key shard key extractor.
+     * @param ring shard locator.
+     * @param workers worker threads service used by scatter-gather calls.
+     * @param shards shard executors.
+     * @throws IllegalArgumentException if number of ring shards does not
+     *         match number of shard executors.
+     *
+     * @see ShardKey
+     * @see Ring
+     * @see StandardExecutor
+     *
+     * @since v1.1
+     */
+    public ShardingExecutor(ShardKey key, Ring ring, ExecutorService workers,
+            StandardExecutor ... shards) {
+        if (ring.getShards() != shards.length) {
+            throw new IllegalArgumentException(String.format(
+                    "ring of %s shards does not match %s shard executors",
+                    ring.getShards(), shards.length));
+        }
+        this.key = key;
+        this.ring = ring;
+        this.shards = shards.clone();
+        this.workers = workers;
+    }
+
+    /**
+     * Gets shard key extractor.
+     *
+     * @return shard key extractor.
+     *
+     * @see ShardKey
+     *
+     * @since v1.1
+     */
+    public ShardKey getKey() {
+        return key;
+    }
+
+    /**
+     * Gets shard locator.
+     *
+     * @return shard locator.
+     *
+     * @see Ring
+     *
+     * @since v1.1
+     */
+    public Ring getRing() {
+        return ring;
+    }
+
+    /**
+     * Gets executor of the shard of specified shard key.
+     *
+     * @param shardKey shard key (optional).
+     * @return shard executor.
+     *
+     * @see StandardExecutor
+     *
+     * @since v1.1
+     */
+    public StandardExecutor getShard(Object shardKey) {
+        return shards[ring.locate(shardKey)];
+    }
+
+    /**
+     * Gets number of shards.
+     *
+     * @return number of shards.
+     *
+     * @since v1.1
+     */
+    public int getSize() {
+        return shards.length;
+    }
+
+    @Override
+    public void call(Subroutine ... subroutines) throws SQLException {
+        StandardExecutor shard = null;
+        for (Subroutine subroutine : subroutines) {
+            StandardExecutor located = locate(subroutine);
+            if (shard != null && shard != located) {
+                throw new SQLException("subroutines span several shards");
+            }
+            shard = located;
+        }
+        if (shard != null) {
+            shard.call(subroutines);
+        }
+    }
+
+    @Override
+    public Object call(Function function, Object ... parameters)
+            throws SQLException {
+        try {
+            if (parameters != null) {
+                for (Object parameter : parameters) {
+                    function.in(parameter);
+                }
+            }
+            locate(function).call((Subroutine) function);
+            return function.getResult();
+        } finally {
+            function.reset();
+        }
+    }
+
+    /**
+     * Executes specified SQL stored function on all shards in parallel.
+     *
+     * <p>The first shard failure cancels the calls still pending on the
+     * other shards.
+     *
+     * @param function SQL function descriptor.
+     * @param parameters function input parameters.
+     * @return function results by shard.
+     * @throws SQLException if error occurs while executing the function on
+     *         any shard.
+     *
+     * @see FunctionDescriptor
+     *
+     * @since v1.1
+     */
+    public List<Object> gather(final FunctionDescriptor function,
+            final Object ... parameters) throws SQLException {
+        List<Future<Object>> futures =
+                new ArrayList<Future<Object>>(shards.length);
+        SQLException error = null;
+        try {
+            for (final StandardExecutor shard : shards) {
+                futures.add(workers.submit(new Callable<Object>() {
+
+                    @Override
+                    public Object call() throws Exception {
+                        return shard.call(function, parameters);
+                    }
+                }));
+            }
+        } catch (RejectedExecutionException e) {
+            error = wrap(e);
+        }
+        List<Object> results = new ArrayList<Object>(shards.length);
+        for (int i = 0; i < futures.size() && error == null; i++) {
+            try {
+                results.add(futures.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                error = wrap(e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                error = cause instanceof SQLException
+                        ? (SQLException) cause : wrap(cause);
+            }
+        }
+        if (error != null) {
+            boolean interrupted = Thread.currentThread().isInterrupted();
+            for (Future<Object> future : futures) {
+                future.cancel(interrupted);
+            }
+            throw error;
+        }
+        return results;
+    }
+
+    private StandardExecutor locate(Subroutine subroutine)
+            throws SQLException {
+        if (!(subroutine instanceof StandardSubroutine)) {
+            throw new SQLException("standard subroutine is required");
+        }
+        return getShard(key.extract((StandardSubroutine) subroutine));
+    }
+
+    private SQLException wrap(Throwable cause) {
+        SQLException error = new SQLException("shard execution failed");
+        error.initCause(cause);
+        return error;
+    }
+}
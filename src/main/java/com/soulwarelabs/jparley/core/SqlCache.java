@@ -0,0 +1,246 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     SqlCache.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded thread-safe cache of callable SQL statement strings.
+ *
+ * <p>Statement strings are keyed by subroutine kind, name and parameters
+ * number. Cache lookups do not allocate memory.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class SqlCache {
+
+    /**
+     * Stored procedure subroutine kind.
+     *
+     * @since v1.1
+     */
+    public static final int PROCEDURE = 0;
+
+    /**
+     * Stored function subroutine kind.
+     *
+     * @since v1.1
+     */
+    public static final int FUNCTION = 1;
+
+    /**
+     * Default maximum number of cached subroutine names.
+     *
+     * @since v1.1
+     */
+    public static final int DEFAULT_SIZE = 1024;
+
+    /**
+     * Maximum parameters number of cached statement strings.
+     *
+     * @since v1.1
+     */
+    public static final int MAX_PARAMETERS = 256;
+
+    private static final SqlCache INSTANCE = new SqlCache();
+
+    /**
+     * Gets shared instance of SQL cache.
+     *
+     * @return SQL cache.
+     *
+     * @since v1.1
+     */
+    public static SqlCache getInstance() {
+        return INSTANCE;
+    }
+
+    private final ConcurrentMap<String, String[][]> calls;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    private volatile int size;
+
+    /**
+     * Creates a new instance of SQL cache.
+     *
+     * @since v1.1
+     */
+    public SqlCache() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * Creates a new instance of SQL cache.
+     *
+     * @param size maximum number of cached subroutine names.
+     *
+     * @since v1.1
+     */
+    public SqlCache(int size) {
+        this.calls = new ConcurrentHashMap<String, String[][]>();
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.size = size;
+    }
+
+    /**
+     * Gets number of cache hits.
+     *
+     * @return number of hits.
+     *
+     * @since v1.1
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets number of cache misses.
+     *
+     * @return number of misses.
+     *
+     * @since v1.1
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Gets maximum number of cached subroutine names.
+     *
+     * @return maximum number of names.
+     *
+     * @since v1.1
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Sets a new maximum number of cached subroutine names.
+     *
+     * @param size maximum number of names.
+     *
+     * @since v1.1
+     */
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Clears the cache and resets its counters.
+     *
+     * @since v1.1
+     */
+    public void clear() {
+        calls.clear();
+        hits.set(0);
+        misses.set(0);
+    }
+
+    /**
+     * Gets a callable SQL statement string.
+     *
+     * @param kind subroutine kind.
+     * @param name subroutine name.
+     * @param parametersNumber subroutine parameters number.
+     * @return SQL statement string.
+     *
+     * @see #PROCEDURE
+     * @see #FUNCTION
+     *
+     * @since v1.1
+     */
+    public String get(int kind, String name, int parametersNumber) {
+        if (name != null) {
+            String[][] entry = calls.get(name);
+            if (entry != null) {
+                String[] sqls = entry[kind];
+                if (sqls != null && parametersNumber < sqls.length) {
+                    String sql = sqls[parametersNumber];
+                    if (sql != null) {
+                        hits.incrementAndGet();
+                        return sql;
+                    }
+                }
+            }
+        }
+        misses.incrementAndGet();
+        String sql = create(kind, name, parametersNumber);
+        if (name != null && parametersNumber < MAX_PARAMETERS) {
+            store(kind, name, parametersNumber, sql);
+        }
+        return sql;
+    }
+
+    private String create(int kind, String name, int parametersNumber) {
+        int placeholders = parametersNumber;
+        StringBuilder result = new StringBuilder();
+        if (kind == FUNCTION) {
+            placeholders--;
+            result.append("{? = call ");
+        } else {
+            result.append("{call ");
+        }
+        result.append(name);
+        result.append('(');
+        for (int i = 1; i <= placeholders; i++) {
+            result.append(i < placeholders ? "?," : "?");
+        }
+        result.append(")}");
+        return result.toString();
+    }
+
+    private synchronized void store(int kind, String name,
+            int parametersNumber, String sql) {
+        String[][] entry = calls.get(name);
+        if (entry == null) {
+            Iterator<String> names = calls.keySet().iterator();
+            while (calls.size() >= size && names.hasNext()) {
+                names.next();
+                names.remove();
+            }
+            entry = new String[FUNCTION + 1][];
+        } else {
+            entry = entry.clone();
+        }
+        String[] sqls = entry[kind];
+        int length = sqls != null ? sqls.length : 0;
+        String[] updated = new String[Math.max(length, parametersNumber + 1)];
+        if (sqls != null) {
+            System.arraycopy(sqls, 0, updated, 0, length);
+        }
+        updated[parametersNumber] = sql;
+        entry[kind] = updated;
+        calls.put(name, entry);
+    }
+}
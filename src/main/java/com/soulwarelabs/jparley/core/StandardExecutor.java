@@ -4,7 +4,7 @@
  *
  * File:     StandardExecutor.java
  * Folder:   /.../com/soulwarelabs/jparley/core
- * Revision: 1.10, 12 May 2014
+ * Revision: 1.24, 18 October 2026
  * Created:  08 February 2014
  * Author:   Ilya Gubarev
  *
@@ -26,6 +26,7 @@
 package com.soulwarelabs.jparley.core;
 
 import java.io.Serializable;
+import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.SQLException;
 
@@ -43,7 +44,7 @@ import com.soulwarelabs.jparley.Subroutine;
  * @since v1.0
  *
  * @author Ilya Gubarev
- * @version 12 May 2014
+ * @version 18 October 2026
  */
 public class StandardExecutor implements Executor, Serializable {
 
@@ -63,22 +64,250 @@ public class StandardExecutor implements Executor, Serializable {
         call(null, connection, subroutines);
     }
 
+    /**
+     * Executes specified SQL stored function.
+     *
+     * @param connection SQL database connection.
+     * @param function SQL function descriptor.
+     * @param parameters function input parameters.
+     * @return function result.
+     * @throws SQLException if error occurs while executing the function.
+     *
+     * @see FunctionDescriptor
+     *
+     * @since v1.1
+     */
+    public static Object call(Connection connection,
+            FunctionDescriptor function, Object ... parameters)
+            throws SQLException {
+        return call(null, connection, function, parameters);
+    }
+
+    /**
+     * Executes specified SQL stored subroutine call plan.
+     *
+     * @param connection SQL database connection.
+     * @param plan SQL subroutine call plan.
+     * @param values parameter values by plan slot.
+     * @throws SQLException if error occurs while executing the plan.
+     *
+     * @see Plan
+     *
+     * @since v1.1
+     */
+    public static void call(Connection connection, Plan plan,
+            Object[] values) throws SQLException {
+        call(null, connection, plan, values);
+    }
+
+    /**
+     * Executes specified pipeline of SQL subroutine calls.
+     *
+     * @param connection SQL database connection.
+     * @param pipeline SQL subroutine calls pipeline.
+     * @throws SQLException if error occurs while executing the pipeline.
+     *
+     * @see Pipeline
+     *
+     * @since v1.1
+     */
+    public static void call(Connection connection, Pipeline pipeline)
+            throws SQLException {
+        call(null, connection, pipeline);
+    }
+
     private static void call(StandardExecutor executor, Connection connection,
             Subroutine ... subroutines) throws SQLException {
+        StatementCache statementCache = null;
+        Listener executionListener = null;
+        Recorder callRecorder = null;
+        int size = 0;
         if (executor != null) {
+            if (!executor.isHolding()) {
+                check(subroutines);
+            }
             executor.before(connection);
+            statementCache = executor.getHeldCache();
+            executionListener = executor.getListener();
+            callRecorder = executor.getRecorder();
+            size = executor.getBatchSize();
         }
-        for (Subroutine subroutine : subroutines) {
-            subroutine.execute(connection);
+        int offset = 0;
+        while (offset < subroutines.length) {
+            int batched = 0;
+            if (size > 1) {
+                batched = batch(connection, statementCache, executionListener,
+                        callRecorder, size, subroutines, offset);
+            }
+            if (batched > 0) {
+                offset += batched;
+                continue;
+            }
+            Subroutine subroutine = subroutines[offset++];
+            if (subroutine instanceof StandardSubroutine) {
+                StandardSubroutine standard = (StandardSubroutine) subroutine;
+                if (callRecorder != null) {
+                    callRecorder.record(standard);
+                }
+                standard.execute(connection, executor != null
+                        ? statementCache : standard.getCache(),
+                        executionListener != null
+                        ? executionListener : standard.getListener());
+            } else {
+                subroutine.execute(connection);
+            }
+        }
+        if (executor != null) {
+            executor.after(connection);
+        }
+    }
+
+    private static Object call(StandardExecutor executor,
+            Connection connection, FunctionDescriptor function,
+            Object ... parameters) throws SQLException {
+        StatementCache statementCache = null;
+        Listener executionListener = null;
+        if (executor != null) {
+            if (!executor.isHolding() && function.isRetaining()) {
+                throw new SQLException("lazy outputs require a transaction");
+            }
+            executor.before(connection);
+            statementCache = executor.getHeldCache();
+            executionListener = executor.getListener();
         }
+        Object result = function.call(connection, statementCache,
+                executionListener, parameters);
         if (executor != null) {
             executor.after(connection);
         }
+        return result;
     }
 
+    private static void call(StandardExecutor executor,
+            Connection connection, Plan plan, Object[] values)
+            throws SQLException {
+        StatementCache statementCache = null;
+        Listener executionListener = null;
+        if (executor != null) {
+            if (!executor.isHolding() && plan.isRetaining()) {
+                throw new SQLException("lazy outputs require a transaction");
+            }
+            executor.before(connection);
+            statementCache = executor.getHeldCache();
+            executionListener = executor.getListener();
+        }
+        plan.call(connection, statementCache, executionListener, values);
+        if (executor != null) {
+            executor.after(connection);
+        }
+    }
+
+    private static void call(StandardExecutor executor,
+            Connection connection, Pipeline pipeline) throws SQLException {
+        StatementCache statementCache = null;
+        Listener executionListener = null;
+        if (executor != null) {
+            if (!executor.isHolding() && pipeline.isRetaining()) {
+                throw new SQLException("lazy outputs require a transaction");
+            }
+            executor.before(connection);
+            statementCache = executor.getHeldCache();
+            executionListener = executor.getListener();
+        }
+        pipeline.call(connection, statementCache, executionListener);
+        if (executor != null) {
+            executor.after(connection);
+        }
+    }
+
+    private static int batch(Connection connection, StatementCache cache,
+            Listener listener, Recorder recorder, int size,
+            Subroutine[] subroutines, int offset) throws SQLException {
+        String sql = null;
+        int total = 0;
+        while (offset + total < subroutines.length) {
+            Subroutine subroutine = subroutines[offset + total];
+            if (!(subroutine instanceof StandardSubroutine)) {
+                break;
+            }
+            StandardSubroutine standard = (StandardSubroutine) subroutine;
+            if (!standard.isBatchable()) {
+                break;
+            }
+            String current = standard.createSql();
+            if (sql != null && !sql.equals(current)) {
+                break;
+            }
+            sql = current;
+            total++;
+        }
+        if (total < 2) {
+            return 0;
+        }
+        StandardSubroutine first = (StandardSubroutine) subroutines[offset];
+        long started = System.nanoTime();
+        long prepared = 0;
+        long executed = 0;
+        CallableStatement callable = null;
+        boolean tracking = ArrayEncoder.track();
+        try {
+            callable = first.prepare(connection, cache, sql);
+            int flushed = offset;
+            for (int i = offset; i < offset + total; i++) {
+                StandardSubroutine standard =
+                        (StandardSubroutine) subroutines[i];
+                if (recorder != null) {
+                    recorder.record(standard);
+                }
+                standard.before(connection);
+                standard.bind(connection, callable);
+                callable.addBatch();
+                if (i + 1 - flushed == size || i + 1 == offset + total) {
+                    prepared = System.nanoTime();
+                    callable.executeBatch();
+                    executed = System.nanoTime();
+                    first.report(listener, started, prepared, executed, null);
+                    for (int j = flushed; j <= i; j++) {
+                        ((StandardSubroutine) subroutines[j]).after(connection);
+                    }
+                    flushed = i + 1;
+                    started = System.nanoTime();
+                    prepared = 0;
+                    executed = 0;
+                }
+            }
+        } catch (SQLException e) {
+            first.report(listener, started, prepared, executed, e);
+            throw e;
+        } finally {
+            if (tracking) {
+                ArrayEncoder.release();
+            }
+            if (callable != null && cache == null) {
+                callable.close();
+            }
+        }
+        return total;
+    }
+
+    private static void check(Subroutine ... subroutines)
+            throws SQLException {
+        for (Subroutine subroutine : subroutines) {
+            if (subroutine instanceof StandardSubroutine
+                    && ((StandardSubroutine) subroutine).isRetaining()) {
+                throw new SQLException(
+                        "cursors and lazy outputs require a transaction");
+            }
+        }
+    }
+
+    private int batchSize;
     private ConnectionPool pool;
     private Interceptor postInterceptor;
     private Interceptor preInterceptor;
+    private transient StatementCache cache;
+    private transient Listener listener;
+    private transient Recorder recorder;
 
     /**
      * Creates a new instance of standard executor.
@@ -112,6 +341,66 @@ public class StandardExecutor implements Executor, Serializable {
         this.preInterceptor = preInterceptor;
     }
 
+    /**
+     * Gets maximum number of subroutine calls in one SQL batch.
+     *
+     * @return SQL batch size.
+     *
+     * @since v1.1
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets a new maximum number of subroutine calls in one SQL batch.
+     *
+     * <p>If the size is greater than one, consecutive batchable standard
+     * subroutines with the same SQL statement string are executed with a
+     * single callable statement in SQL batches of the specified size.
+     * Subroutine pre-execution interceptors are invoked before each call is
+     * added to a batch, post-execution interceptors are invoked after the
+     * batch is executed.
+     *
+     * @param batchSize SQL batch size (zero to disable batching).
+     *
+     * @see StandardSubroutine#isBatchable()
+     *
+     * @since v1.1
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Gets SQL execution listener (optional).
+     *
+     * @return SQL execution listener (optional).
+     *
+     * @see Listener
+     *
+     * @since v1.1
+     */
+    public Listener getListener() {
+        return listener;
+    }
+
+    /**
+     * Sets a new SQL execution listener (optional).
+     *
+     * <p>The listener is notified about each connection taken from the
+     * connection pool and is used by all executed standard subroutines.
+     *
+     * @param listener SQL execution listener (optional).
+     *
+     * @see Listener
+     *
+     * @since v1.1
+     */
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
     /**
      * Gets SQL database connection pool.
      *
@@ -138,6 +427,67 @@ public class StandardExecutor implements Executor, Serializable {
         this.pool = pool;
     }
 
+    /**
+     * Gets SQL statement cache (optional).
+     *
+     * @return SQL statement cache (optional).
+     *
+     * @see StatementCache
+     *
+     * @since v1.1
+     */
+    public StatementCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Sets a new SQL statement cache (optional).
+     *
+     * <p>The cache is used only by executors holding connections between
+     * calls (e.g. {@link StandardTransaction} or {@link AffinityExecutor})
+     * and is released for each held connection before it is closed. Plain
+     * calls return each connection to the pool right after the call, so
+     * their statements are never cached.
+     *
+     * @param cache SQL statement cache (optional).
+     *
+     * @see StatementCache
+     *
+     * @since v1.1
+     */
+    public void setCache(StatementCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Gets SQL calls recorder (optional).
+     *
+     * @return SQL calls recorder (optional).
+     *
+     * @see Recorder
+     *
+     * @since v1.1
+     */
+    public Recorder getRecorder() {
+        return recorder;
+    }
+
+    /**
+     * Sets a new SQL calls recorder (optional).
+     *
+     * <p>The recorder records each executed standard subroutine before it is
+     * executed.
+     *
+     * @param recorder SQL calls recorder (optional).
+     *
+     * @see Recorder
+     *
+     * @since v1.1
+     */
+    public void setRecorder(Recorder recorder) {
+        this.recorder = recorder;
+    }
+
     /**
      * Gets SQL workflow post-execution interceptor.
      *
@@ -190,19 +540,29 @@ public class StandardExecutor implements Executor, Serializable {
         this.preInterceptor = preInterceptor;
     }
 
+    /**
+     * Starts a new unit of work.
+     *
+     * @return SQL transaction.
+     * @throws SQLException if error occurs while starting the transaction.
+     *
+     * @see StandardTransaction
+     *
+     * @since v1.1
+     */
+    public StandardTransaction begin() throws SQLException {
+        return new StandardTransaction(this);
+    }
+
     @Override
     public void call(Subroutine ... subroutines) throws SQLException {
         Connection connection = null;
         try {
-            ConnectionPool connectionPool = getPool();
-            if (connectionPool == null) {
-                throw new SQLException("connection pool is null");
-            }
-            connection = connectionPool.getConnection();
-            call(this, connection, subroutines);
+            connection = open();
+            execute(connection, subroutines);
         } finally {
             if (connection != null) {
-                connection.close();
+                close(connection);
             }
         }
     }
@@ -223,6 +583,83 @@ public class StandardExecutor implements Executor, Serializable {
         }
     }
 
+    /**
+     * Executes specified SQL stored function.
+     *
+     * <p>Function descriptors are immutable, so the same descriptor can be
+     * executed by several threads concurrently.
+     *
+     * @param function SQL function descriptor.
+     * @param parameters function input parameters.
+     * @return function result.
+     * @throws SQLException if error occurs while executing the function.
+     *
+     * @see FunctionDescriptor
+     *
+     * @since v1.1
+     */
+    public Object call(FunctionDescriptor function, Object ... parameters)
+            throws SQLException {
+        Connection connection = null;
+        try {
+            connection = open();
+            return call(this, connection, function, parameters);
+        } finally {
+            if (connection != null) {
+                close(connection);
+            }
+        }
+    }
+
+    /**
+     * Executes specified SQL stored subroutine call plan.
+     *
+     * <p>Input values are read from and decoded output values are written
+     * to the slots of specified array.
+     *
+     * @param plan SQL subroutine call plan.
+     * @param values parameter values by plan slot.
+     * @throws SQLException if error occurs while executing the plan.
+     *
+     * @see Plan
+     *
+     * @since v1.1
+     */
+    public void call(Plan plan, Object[] values) throws SQLException {
+        Connection connection = null;
+        try {
+            connection = open();
+            call(this, connection, plan, values);
+        } finally {
+            if (connection != null) {
+                close(connection);
+            }
+        }
+    }
+
+    /**
+     * Executes specified pipeline of SQL subroutine calls with a single
+     * round trip.
+     *
+     * @param pipeline SQL subroutine calls pipeline.
+     * @throws SQLException if error occurs while executing the pipeline.
+     *
+     * @see Pipeline
+     *
+     * @since v1.1
+     */
+    public void call(Pipeline pipeline) throws SQLException {
+        Connection connection = null;
+        try {
+            connection = open();
+            call(this, connection, pipeline);
+        } finally {
+            if (connection != null) {
+                close(connection);
+            }
+        }
+    }
+
     /**
      * Intercepts SQL workflow after subroutines are executed.
      *
@@ -251,6 +688,109 @@ public class StandardExecutor implements Executor, Serializable {
         intercept(connection, getPreInterceptor());
     }
 
+    /**
+     * Releases SQL database connection taken from the connection pool.
+     *
+     * @param connection SQL database connection.
+     * @throws SQLException if error occurs while releasing the connection.
+     *
+     * @see #open()
+     *
+     * @since v1.1
+     */
+    protected void close(Connection connection) throws SQLException {
+        try {
+            StatementCache statementCache = getHeldCache();
+            if (statementCache != null) {
+                statementCache.release(connection);
+            }
+        } finally {
+            connection.close();
+        }
+    }
+
+    /**
+     * Executes specified SQL stored subroutines with the executor settings.
+     *
+     * @param connection SQL database connection.
+     * @param subroutines SQL subroutines to be executed.
+     * @throws SQLException if error occurs while executing the subroutines.
+     *
+     * @see Subroutine
+     *
+     * @since v1.1
+     */
+    protected void execute(Connection connection, Subroutine ... subroutines)
+            throws SQLException {
+        call(this, connection, subroutines);
+    }
+
+    /**
+     * Checks if the executor holds connections between calls.
+     *
+     * <p>Statement cache is used only by executors holding connections.
+     *
+     * @return true if the executor holds connections.
+     *
+     * @see #getCache()
+     *
+     * @since v1.1
+     */
+    protected boolean isHolding() {
+        return false;
+    }
+
+    /**
+     * Takes a new SQL database connection from the connection pool.
+     *
+     * @return SQL database connection.
+     * @throws SQLException if error occurs while taking the connection.
+     *
+     * @see #close(Connection)
+     *
+     * @since v1.1
+     */
+    protected Connection open() throws SQLException {
+        return open(getPool());
+    }
+
+    /**
+     * Takes a new SQL database connection from specified connection pool.
+     *
+     * @param connectionPool SQL database connection pool.
+     * @return SQL database connection.
+     * @throws SQLException if error occurs while taking the connection.
+     *
+     * @see ConnectionPool
+     * @see #close(Connection)
+     *
+     * @since v1.1
+     */
+    protected Connection open(ConnectionPool connectionPool)
+            throws SQLException {
+        if (connectionPool == null) {
+            throw new SQLException("connection pool is null");
+        }
+        Listener executionListener = getListener();
+        if (executionListener == null) {
+            return connectionPool.getConnection();
+        }
+        long started = System.nanoTime();
+        Connection connection;
+        try {
+            connection = connectionPool.getConnection();
+        } catch (SQLException e) {
+            executionListener.connected(System.nanoTime() - started, e);
+            throw e;
+        }
+        executionListener.connected(System.nanoTime() - started, null);
+        return connection;
+    }
+
+    StatementCache getHeldCache() {
+        return isHolding() ? getCache() : null;
+    }
+
     private void intercept(Connection connection, Interceptor interceptor)
             throws SQLException {
         if (interceptor != null) {
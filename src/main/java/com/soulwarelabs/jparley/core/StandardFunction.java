@@ -4,7 +4,7 @@
  *
  * File:     StandardFunction.java
  * Folder:   /.../com/soulwarelabs/jparley/core
- * Revision: 1.03, 16 April 2014
+ * Revision: 1.10, 18 October 2026
  * Created:  16 March 2014
  * Author:   Ilya Gubarev
  *
@@ -42,7 +42,7 @@ import com.soulwarelabs.jparley.Function;
  * @since v1.0
  *
  * @author Ilya Gubarev
- * @version 16 April 2014
+ * @version 18 October 2026
  */
 public class StandardFunction extends StandardSubroutine implements Function {
 
@@ -112,6 +112,24 @@ public class StandardFunction extends StandardSubroutine implements Function {
         this.decoder = decoder;
     }
 
+    /**
+     * Gets an immutable descriptor of the function.
+     *
+     * <p>The descriptor captures current function name, result type,
+     * structure name, decoder and interceptors. Registered input parameters
+     * are not captured.
+     *
+     * @return function descriptor.
+     *
+     * @see FunctionDescriptor
+     *
+     * @since v1.1
+     */
+    public FunctionDescriptor getDescriptor() {
+        return new FunctionDescriptor(getName(), getType(), getStruct(),
+                getDecoder(), getPreInterceptor(), getPostInterceptor());
+    }
+
     @Override
     public Object getResult() {
         return value.getValue();
@@ -162,17 +180,56 @@ public class StandardFunction extends StandardSubroutine implements Function {
     }
 
     @Override
-    public void execute(Connection connection) throws SQLException {
+    public void execute(Connection connection, StatementCache cache,
+            Listener listener) throws SQLException {
         output(index, getType(), getStruct(), getDecoder());
-        super.execute(connection);
+        super.execute(connection, cache, listener);
         remove(index);
     }
 
+    @Override
+    public boolean isBatchable() {
+        return false;
+    }
+
     @Override
     public void in(Object value) {
         input(counter++, new Box<Object>(value), null, null);
     }
 
+    /**
+     * Registers a new double input parameter without boxing.
+     *
+     * @param value parameter input value.
+     *
+     * @since v1.1
+     */
+    public void inDouble(double value) {
+        input(counter++, value);
+    }
+
+    /**
+     * Registers a new integer input parameter without boxing.
+     *
+     * @param value parameter input value.
+     *
+     * @since v1.1
+     */
+    public void inInt(int value) {
+        input(counter++, value);
+    }
+
+    /**
+     * Registers a new long integer input parameter without boxing.
+     *
+     * @param value parameter input value.
+     *
+     * @since v1.1
+     */
+    public void inLong(long value) {
+        input(counter++, value);
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -181,11 +238,8 @@ public class StandardFunction extends StandardSubroutine implements Function {
 
     @Override
     protected String createSql(String name, int parametersNumber) {
-        StringBuilder parameters = new StringBuilder();
-        for (int i = 1; i <= parametersNumber - 1; i++) {
-            parameters.append(i < parametersNumber - 1 ? "?," : "?");
-        }
-        return String.format("{? = call %s(%s)}", name, parameters);
+        SqlCache cache = SqlCache.getInstance();
+        return cache.get(SqlCache.FUNCTION, name, parametersNumber);
     }
 
     private void resetCounter() {
@@ -4,7 +4,7 @@
  *
  * File:     StandardProcedure.java
  * Folder:   /.../com/soulwarelabs/jparley/core
- * Revision: 1.04, 16 April 2014
+ * Revision: 1.07, 18 October 2026
  * Created:  16 March 2014
  * Author:   Ilya Gubarev
  *
@@ -39,7 +39,7 @@ import com.soulwarelabs.jparley.Procedure;
  * @since v1.0
  *
  * @author Ilya Gubarev
- * @version 16 April 2014
+ * @version 18 October 2026
  */
 public class StandardProcedure extends StandardSubroutine implements Procedure {
 
@@ -70,6 +70,124 @@ public class StandardProcedure extends StandardSubroutine implements Procedure {
         super(name, preInterceptor, postInterceptor);
     }
 
+    /**
+     * Registers a new streaming result set output parameter.
+     *
+     * <p>Rows are read as arrays of column values.
+     *
+     * @param index parameter index.
+     * @param type parameter SQL type code (e.g. REF CURSOR).
+     * @param fetchSize SQL result set fetch size (zero for driver default).
+     * @return output cursor.
+     *
+     * @see Cursor
+     *
+     * @since v1.1
+     */
+    public Cursor<Object[]> cursor(int index, int type, int fetchSize) {
+        return cursor(index, type, fetchSize, Cursor.COLUMNS);
+    }
+
+    /**
+     * Registers a new streaming result set output parameter.
+     *
+     * <p>Rows are read as arrays of column values.
+     *
+     * @param name parameter name.
+     * @param type parameter SQL type code (e.g. REF CURSOR).
+     * @param fetchSize SQL result set fetch size (zero for driver default).
+     * @return output cursor.
+     *
+     * @see Cursor
+     *
+     * @since v1.1
+     */
+    public Cursor<Object[]> cursor(String name, int type, int fetchSize) {
+        return cursor(name, type, fetchSize, Cursor.COLUMNS);
+    }
+
+    /**
+     * Registers a new streaming result set output parameter.
+     *
+     * @param <T> mapped row type.
+     * @param index parameter index.
+     * @param type parameter SQL type code (e.g. REF CURSOR).
+     * @param fetchSize SQL result set fetch size (zero for driver default).
+     * @param mapper SQL result set row mapper.
+     * @return output cursor.
+     *
+     * @see Cursor
+     * @see Mapper
+     *
+     * @since v1.1
+     */
+    public <T> Cursor<T> cursor(int index, int type, int fetchSize,
+            Mapper<T> mapper) {
+        return output(index, type, new Cursor<T>(fetchSize, mapper));
+    }
+
+    /**
+     * Registers a new streaming result set output parameter.
+     *
+     * @param <T> mapped row type.
+     * @param name parameter name.
+     * @param type parameter SQL type code (e.g. REF CURSOR).
+     * @param fetchSize SQL result set fetch size (zero for driver default).
+     * @param mapper SQL result set row mapper.
+     * @return output cursor.
+     *
+     * @see Cursor
+     * @see Mapper
+     *
+     * @since v1.1
+     */
+    public <T> Cursor<T> cursor(String name, int type, int fetchSize,
+            Mapper<T> mapper) {
+        return output(name, type, new Cursor<T>(fetchSize, mapper));
+    }
+
+    /**
+     * Registers a new lazily decoded output parameter.
+     *
+     * @param index parameter index.
+     * @param type parameter SQL type code.
+     * @param struct parameter SQL structure name (optional).
+     * @param decoder parameter SQL data decoder (optional).
+     * @return lazily decoded output value.
+     *
+     * @see LazyBox
+     * @see LobDecoder
+     *
+     * @since v1.1
+     */
+    public LazyBox lazy(int index, int type, String struct,
+            Converter decoder) {
+        LazyBox value = new LazyBox(decoder);
+        output(index, type, struct, value);
+        return value;
+    }
+
+    /**
+     * Registers a new lazily decoded output parameter.
+     *
+     * @param name parameter name.
+     * @param type parameter SQL type code.
+     * @param struct parameter SQL structure name (optional).
+     * @param decoder parameter SQL data decoder (optional).
+     * @return lazily decoded output value.
+     *
+     * @see LazyBox
+     * @see LobDecoder
+     *
+     * @since v1.1
+     */
+    public LazyBox lazy(String name, int type, String struct,
+            Converter decoder) {
+        LazyBox value = new LazyBox(decoder);
+        output(name, type, struct, value);
+        return value;
+    }
+
     @Override
     public Box<Object> out(int index, int type) {
         return output(index, type, null, null);
@@ -114,10 +232,7 @@ public class StandardProcedure extends StandardSubroutine implements Procedure {
 
     @Override
     protected String createSql(String name, int parametersNumber) {
-        StringBuilder parameters = new StringBuilder();
-        for (int i = 1; i <= parametersNumber; i++) {
-            parameters.append(i < parametersNumber ? "?," : "?");
-        }
-        return String.format("{call %s(%s)}", name, parameters);
+        SqlCache cache = SqlCache.getInstance();
+        return cache.get(SqlCache.PROCEDURE, name, parametersNumber);
     }
 }
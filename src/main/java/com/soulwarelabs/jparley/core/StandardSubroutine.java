@@ -4,7 +4,7 @@
  *
  * File:     StandardSubroutine.java
  * Folder:   /.../com/soulwarelabs/jparley/core
- * Revision: 1.08, 13 May 2014
+ * Revision: 1.23, 18 October 2026
  * Created:  10 March 2014
  * Author:   Ilya Gubarev
  *
@@ -25,9 +25,18 @@
  */
 package com.soulwarelabs.jparley.core;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.sql.CallableStatement;
+import java.sql.Blob;
+import java.sql.Clob;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.soulwarelabs.jcommons.Box;
 
@@ -45,14 +54,22 @@ import com.soulwarelabs.jparley.utility.Statement;
  * @since v1.0
  *
  * @author Ilya Gubarev
- * @version 13 May 2014
+ * @version 18 October 2026
  */
 public abstract class StandardSubroutine implements Serializable, Subroutine {
 
     private String name;
+    private Frame frame;
+    private boolean idempotent;
+    private boolean lazy;
     private Manager manager;
     private Interceptor postInterceptor;
     private Interceptor preInterceptor;
+    private boolean readOnly;
+    private boolean structured;
+    private transient StatementCache cache;
+    private transient Listener listener;
+    private transient Map<Object, Cursor<?>> cursors;
 
     /**
      * Creates a new instance of standard subroutine.
@@ -79,6 +96,7 @@ public abstract class StandardSubroutine implements Serializable, Subroutine {
     public StandardSubroutine(String name, Interceptor preInterceptor,
             Interceptor postInterceptor) {
         this.name = name;
+        this.frame = new Frame();
         this.manager = new Manager();
         this.postInterceptor = postInterceptor;
         this.preInterceptor = preInterceptor;
@@ -94,6 +112,89 @@ public abstract class StandardSubroutine implements Serializable, Subroutine {
         this.name = name;
     }
 
+    /**
+     * Gets SQL statement cache (optional).
+     *
+     * @return SQL statement cache (optional).
+     *
+     * @see StatementCache
+     *
+     * @since v1.1
+     */
+    public StatementCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Sets a new SQL statement cache (optional).
+     *
+     * <p>If no cache is specified, the subroutine prepares a new statement
+     * for each execution and closes it afterwards.
+     *
+     * @param cache SQL statement cache (optional).
+     *
+     * @see StatementCache
+     *
+     * @since v1.1
+     */
+    public void setCache(StatementCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Gets SQL execution listener (optional).
+     *
+     * @return SQL execution listener (optional).
+     *
+     * @see Listener
+     *
+     * @since v1.1
+     */
+    public Listener getListener() {
+        return listener;
+    }
+
+    /**
+     * Sets a new SQL execution listener (optional).
+     *
+     * @param listener SQL execution listener (optional).
+     *
+     * @see Listener
+     *
+     * @since v1.1
+     */
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Checks if the subroutine can be safely executed more than once.
+     *
+     * <p>Only idempotent subroutines are retried on transient errors.
+     *
+     * @return true if the subroutine is idempotent.
+     *
+     * @see ResilientExecutor
+     *
+     * @since v1.1
+     */
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+
+    /**
+     * Marks the subroutine as idempotent or not.
+     *
+     * @param idempotent true if the subroutine is idempotent.
+     *
+     * @see ResilientExecutor
+     *
+     * @since v1.1
+     */
+    public void setIdempotent(boolean idempotent) {
+        this.idempotent = idempotent;
+    }
+
     /**
      * Gets SQL workflow post-execution interceptor.
      *
@@ -146,14 +247,161 @@ public abstract class StandardSubroutine implements Serializable, Subroutine {
         this.preInterceptor = preInterceptor;
     }
 
+    /**
+     * Checks if the subroutine does not modify any data.
+     *
+     * <p>Read-only subroutines can be routed to database replicas.
+     *
+     * @return true if the subroutine is read-only.
+     *
+     * @see RoutingExecutor
+     *
+     * @since v1.1
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Marks the subroutine as read-only or not.
+     *
+     * @param readOnly true if the subroutine is read-only.
+     *
+     * @see RoutingExecutor
+     *
+     * @since v1.1
+     */
+    public void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Registers a new SQL array input parameter.
+     *
+     * @param index parameter index.
+     * @param type SQL array elements type name.
+     * @param values collection, object array or primitive array.
+     *
+     * @see ArrayEncoder
+     *
+     * @since v1.1
+     */
+    public void array(int index, String type, Object values) {
+        input(index, new Box<Object>(values), Types.ARRAY,
+                new ArrayEncoder(type));
+    }
+
+    /**
+     * Registers a new SQL array input parameter.
+     *
+     * @param name parameter name.
+     * @param type SQL array elements type name.
+     * @param values collection, object array or primitive array.
+     *
+     * @see ArrayEncoder
+     *
+     * @since v1.1
+     */
+    public void array(String name, String type, Object values) {
+        input(name, new Box<Object>(values), Types.ARRAY,
+                new ArrayEncoder(type));
+    }
+
+    /**
+     * Gets a lazy text view of the subroutine.
+     *
+     * @param limit maximum length of printed values (zero for no limit).
+     * @return subroutine text view.
+     *
+     * @see Description
+     *
+     * @since v1.1
+     */
+    public Description describe(int limit) {
+        return new Description(this, limit);
+    }
+
     @Override
     public void execute(Connection connection) throws SQLException {
+        execute(connection, getCache());
+    }
+
+    /**
+     * Executes the subroutine using specified SQL statement cache.
+     *
+     * @param connection SQL database connection.
+     * @param cache SQL statement cache (optional).
+     * @throws SQLException if error occurs while executing the subroutine.
+     *
+     * @see StatementCache
+     *
+     * @since v1.1
+     */
+    public void execute(Connection connection, StatementCache cache)
+            throws SQLException {
+        execute(connection, cache, getListener());
+    }
+
+    /**
+     * Executes the subroutine using specified SQL statement cache and
+     * reporting to specified execution listener.
+     *
+     * <p>Without a cache the statement is closed after execution unless
+     * output values (e.g. result sets or large objects) still depend on it,
+     * in which case it is closed together with the connection. Outputs of
+     * a cached statement remain valid until the statement is executed
+     * again.
+     *
+     * @param connection SQL database connection.
+     * @param cache SQL statement cache (optional).
+     * @param listener SQL execution listener (optional).
+     * @throws SQLException if error occurs while executing the subroutine.
+     *
+     * @see StatementCache
+     * @see Listener
+     *
+     * @since v1.1
+     */
+    public void execute(Connection connection, StatementCache cache,
+            Listener listener) throws SQLException {
         before(connection);
-        String sql = createSql(getName(), manager.getTotal());
-        Statement statement = new Statement(connection.prepareCall(sql));
-        manager.setupAll(connection, statement);
-        statement.execute();
-        manager.parseAll(connection, statement);
+        String sql = createSql();
+        boolean streaming = isStreaming();
+        StatementCache statementCache = streaming ? null : cache;
+        long started = System.nanoTime();
+        long prepared = 0;
+        long executed = 0;
+        try {
+            CallableStatement callable =
+                    prepare(connection, statementCache, sql);
+            boolean attached = false;
+            boolean tracking = ArrayEncoder.track();
+            try {
+                Statement statement = new Statement(callable);
+                manager.setupAll(connection, statement);
+                bindNulls(callable);
+                frame.bind(callable);
+                prepared = System.nanoTime();
+                statement.execute();
+                executed = System.nanoTime();
+                manager.parseAll(connection, statement);
+                if (streaming) {
+                    attach(callable);
+                    attached = true;
+                }
+            } finally {
+                if (tracking) {
+                    ArrayEncoder.release();
+                }
+                if (statementCache == null && !attached && !isRetained()) {
+                    callable.close();
+                }
+            }
+        } catch (SQLException e) {
+            report(listener, started, prepared, executed, e);
+            throw e;
+        }
+        report(listener, started, prepared, executed, null);
         after(connection);
     }
 
@@ -223,6 +471,60 @@ public abstract class StandardSubroutine implements Serializable, Subroutine {
         input(name, new Box<Object>(value), null, encoder);
     }
 
+    /**
+     * Registers a new double input parameter without boxing.
+     *
+     * @param index parameter index.
+     * @param value parameter input value.
+     *
+     * @since v1.1
+     */
+    public void inDouble(int index, double value) {
+        input(index, value);
+    }
+
+    /**
+     * Registers a new integer input parameter without boxing.
+     *
+     * @param index parameter index.
+     * @param value parameter input value.
+     *
+     * @since v1.1
+     */
+    public void inInt(int index, int value) {
+        input(index, value);
+    }
+
+    /**
+     * Registers a new long integer input parameter without boxing.
+     *
+     * @param index parameter index.
+     * @param value parameter input value.
+     *
+     * @since v1.1
+     */
+    public void inLong(int index, long value) {
+        input(index, value);
+    }
+
+    /**
+     * Checks if the subroutine can be executed as a part of SQL batch.
+     *
+     * <p>Only subroutines without output parameters can be batched.
+     *
+     * @return true if the subroutine can be batched.
+     *
+     * @since v1.1
+     */
+    public boolean isBatchable() {
+        for (Object key : manager.getKeys()) {
+            if (manager.getParameter(key).getOutput() != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Gets a text view of the subroutine.
      *
@@ -231,14 +533,66 @@ public abstract class StandardSubroutine implements Serializable, Subroutine {
      * @since v1.0
      */
     public String print() {
-        Interviewer interviewer = new ParametersPrinter();
-        interview(interviewer);
-        return String.format("%s {\r\n%s\r\n}", getName(), interviewer);
+        return describe(0).toString();
+    }
+
+    /**
+     * Writes a text view of the subroutine to specified output.
+     *
+     * @param output text output.
+     * @param limit maximum length of printed values (zero for no limit).
+     * @throws IOException if error occurs while writing the text view.
+     *
+     * @since v1.1
+     */
+    public void print(Appendable output, int limit) throws IOException {
+        output.append(String.valueOf(getName()));
+        output.append(" {\r\n");
+        ParametersPrinter printer = new ParametersPrinter(output, limit);
+        interview(printer);
+        printer.flush();
+        output.append("\r\n}");
     }
 
     @Override
     public void reset() {
         manager.removeAll();
+        frame.clear();
+        cursors = null;
+        lazy = false;
+        structured = false;
+    }
+
+    /**
+     * Registers a new SQL structure input parameter.
+     *
+     * @param index parameter index.
+     * @param struct SQL structure name.
+     * @param attributes collection or array of attribute values.
+     *
+     * @see StructEncoder
+     *
+     * @since v1.1
+     */
+    public void struct(int index, String struct, Object attributes) {
+        input(index, new Box<Object>(attributes), Types.STRUCT,
+                new StructEncoder(struct));
+    }
+
+    /**
+     * Registers a new SQL structure input parameter.
+     *
+     * @param name parameter name.
+     * @param struct SQL structure name.
+     * @param attributes collection or array of attribute values.
+     *
+     * @see StructEncoder
+     *
+     * @since v1.1
+     */
+    public void struct(String name, String struct, Object attributes) {
+        input(name, new Box<Object>(attributes), Types.STRUCT,
+                new StructEncoder(struct));
     }
 
     @Override
@@ -300,7 +654,52 @@ public abstract class StandardSubroutine implements Serializable, Subroutine {
      */
     protected void input(int index, Box<?> value, Integer type,
             Converter encoder) {
+        forget(index);
+        frame.remove(index);
         manager.in(index, value, type, encoder);
+        structured |= ArrayEncoder.getTypeName(encoder) != null;
+    }
+
+    /**
+     * Registers a new double input parameter without boxing.
+     *
+     * @param index parameter index.
+     * @param value parameter input value.
+     *
+     * @since v1.1
+     */
+    protected void input(int index, double value) {
+        forget(index);
+        manager.remove(index);
+        frame.put(index, value);
+    }
+
+    /**
+     * Registers a new integer input parameter without boxing.
+     *
+     * @param index parameter index.
+     * @param value parameter input value.
+     *
+     * @since v1.1
+     */
+    protected void input(int index, int value) {
+        forget(index);
+        manager.remove(index);
+        frame.put(index, value);
+    }
+
+    /**
+     * Registers a new long integer input parameter without boxing.
+     *
+     * @param index parameter index.
+     * @param value parameter input value.
+     *
+     * @since v1.1
+     */
+    protected void input(int index, long value) {
+        forget(index);
+        manager.remove(index);
+        frame.put(index, value);
     }
 
     /**
@@ -318,12 +717,17 @@ public abstract class StandardSubroutine implements Serializable, Subroutine {
      */
     protected void input(String name, Box<?> value, Integer type,
             Converter encoder) {
+        forget(name);
         manager.in(name, value, type, encoder);
+        structured |= ArrayEncoder.getTypeName(encoder) != null;
     }
 
     /**
      * Processes registered parameters with specified processor.
      *
+     * <p>Primitive input parameters are passed without boxing if the
+     * processor is a {@link FrameInterviewer}.
+     *
      * @param interviewer parameters processor.
      *
      * @see Interviewer
@@ -343,6 +747,17 @@ public abstract class StandardSubroutine implements Serializable, Subroutine {
                 interviewer.perform((String) key, input, output, type, struct);
             }
         }
+        if (interviewer instanceof FrameInterviewer) {
+            frame.interview((FrameInterviewer) interviewer);
+            return;
+        }
+        for (int index = 0; index < frame.getLength(); index++) {
+            if (frame.contains(index)) {
+                Box<Object> input = new Box<Object>(frame.get(index));
+                interviewer.perform(index, input, null, frame.getType(index),
+                        null);
+            }
+        }
     }
 
     /**
@@ -361,9 +776,31 @@ public abstract class StandardSubroutine implements Serializable, Subroutine {
      */
     protected Box<Object> output(int index, int type, String struct,
             Converter decoder) {
+        forget(index);
+        frame.remove(index);
+        lazy |= LazyBox.isLazy(decoder);
         return manager.out(index, type, struct, decoder);
     }
 
+    /**
+     * Registers a new streaming result set output parameter.
+     *
+     * @param <T> mapped row type.
+     * @param index parameter index.
+     * @param type parameter SQL type code.
+     * @param cursor output cursor.
+     * @return output cursor.
+     *
+     * @see Cursor
+     *
+     * @since v1.1
+     */
+    protected <T> Cursor<T> output(int index, int type, Cursor<T> cursor) {
+        output(index, type, null, cursor);
+        stream(index, cursor);
+        return cursor;
+    }
+
     /**
      * Registers a new output parameter.
      *
@@ -380,9 +817,30 @@ public abstract class StandardSubroutine implements Serializable, Subroutine {
      */
     protected Box<Object> output(String name, int type, String struct,
             Converter decoder) {
+        forget(name);
+        lazy |= LazyBox.isLazy(decoder);
         return manager.out(name, type, struct, decoder);
     }
 
+    /**
+     * Registers a new streaming result set output parameter.
+     *
+     * @param <T> mapped row type.
+     * @param name parameter name.
+     * @param type parameter SQL type code.
+     * @param cursor output cursor.
+     * @return output cursor.
+     *
+     * @see Cursor
+     *
+     * @since v1.1
+     */
+    protected <T> Cursor<T> output(String name, int type, Cursor<T> cursor) {
+        output(name, type, null, cursor);
+        stream(name, cursor);
+        return cursor;
+    }
+
     /**
      * Removes registered subroutine parameter
      *
@@ -391,6 +849,8 @@ public abstract class StandardSubroutine implements Serializable, Subroutine {
      * @since v1.0
      */
     protected void remove(int index) {
+        forget(index);
+        frame.remove(index);
         manager.remove(index);
     }
 
@@ -402,13 +862,120 @@ public abstract class StandardSubroutine implements Serializable, Subroutine {
      * @since v1.0
      */
     protected void remove(String name) {
+        forget(name);
         manager.remove(name);
     }
 
+    void bind(Connection connection, CallableStatement callable)
+            throws SQLException {
+        manager.setupAll(connection, new Statement(callable));
+        bindNulls(callable);
+        frame.bind(callable);
+    }
+
+    String createSql() {
+        return createSql(getName(), getTotal());
+    }
+
+    boolean isRetaining() {
+        if (isStreaming()) {
+            return true;
+        }
+        if (lazy) {
+            for (Object key : manager.getKeys()) {
+                if (LazyBox.isLazy(manager.getParameter(key).getDecoder())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    boolean isStreaming() {
+        return cursors != null && !cursors.isEmpty();
+    }
+
+    CallableStatement prepare(Connection connection, StatementCache cache,
+            String sql) throws SQLException {
+        if (cache == null) {
+            return connection.prepareCall(sql);
+        }
+        return cache.prepare(connection, sql);
+    }
+
+    void report(Listener listener, long started, long prepared,
+            long executed, SQLException error) {
+        if (listener != null) {
+            long finished = System.nanoTime();
+            prepared = prepared != 0 ? prepared : finished;
+            executed = executed != 0 ? executed : finished;
+            listener.executed(getName(), getTotal(),
+                    prepared - started, executed - prepared,
+                    finished - executed, error);
+        }
+    }
+
+    private void attach(CallableStatement callable) {
+        AtomicInteger remaining = new AtomicInteger(cursors.size());
+        for (Cursor<?> cursor : cursors.values()) {
+            cursor.attach(callable, remaining);
+        }
+    }
+
+    private void bindNulls(CallableStatement callable) throws SQLException {
+        if (!structured) {
+            return;
+        }
+        for (Object key : manager.getKeys()) {
+            Parameter parameter = manager.getParameter(key);
+            Box<?> input = parameter.getInput();
+            String typeName = ArrayEncoder.getTypeName(parameter.getEncoder());
+            if (input == null || input.getValue() != null || typeName == null) {
+                continue;
+            }
+            Integer type = parameter.getType();
+            int sqlType = type != null ? type : Types.OTHER;
+            if (key instanceof Integer) {
+                callable.setNull((Integer) key, sqlType, typeName);
+            } else {
+                callable.setNull((String) key, sqlType, typeName);
+            }
+        }
+    }
+
+    private void forget(Object key) {
+        if (cursors != null) {
+            cursors.remove(key);
+        }
+    }
+
+    private int getTotal() {
+        return manager.getTotal() + frame.getSize();
+    }
+
     private void intercept(Connection connection, Interceptor interceptor)
             throws SQLException {
         if (interceptor != null) {
             interceptor.perform(connection);
         }
     }
+
+    private boolean isRetained() {
+        for (Object key : manager.getKeys()) {
+            Box<Object> output = manager.getParameter(key).getOutput();
+            Object value = output != null ? output.getValue() : null;
+            if (value instanceof ResultSet || value instanceof Blob
+                    || value instanceof Clob) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void stream(Object key, Cursor<?> cursor) {
+        if (cursors == null) {
+            cursors = new LinkedHashMap<Object, Cursor<?>>();
+        }
+        cursors.put(key, cursor);
+    }
 }
@@ -0,0 +1,187 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     StandardTransaction.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.02, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Standard SQL unit of work.
+ *
+ * <p>Holds a single pooled connection with auto-commit disabled across any
+ * number of calls and commits or rolls back once. Executor settings are
+ * inherited from the executor the transaction was started with; if that
+ * executor has no statement cache, a private one is used, so statements are
+ * reused throughout the unit of work.
+ *
+ * @see StandardExecutor#begin()
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class StandardTransaction extends StandardExecutor {
+
+    private boolean autoCommit;
+    private transient Connection connection;
+    private transient StandardExecutor executor;
+    private boolean pending;
+
+    /**
+     * Creates a new instance of standard transaction.
+     *
+     * @param executor SQL subroutines executor.
+     * @throws SQLException if error occurs while starting the transaction.
+     *
+     * @see StandardExecutor
+     *
+     * @since v1.1
+     */
+    public StandardTransaction(StandardExecutor executor) throws SQLException {
+        super(executor.getPool(), executor.getPreInterceptor(),
+                executor.getPostInterceptor());
+        StatementCache statementCache = executor.getCache();
+        if (statementCache == null) {
+            statementCache = new StatementCache();
+        }
+        setBatchSize(executor.getBatchSize());
+        setCache(statementCache);
+        setListener(executor.getListener());
+        setRecorder(executor.getRecorder());
+        this.executor = executor;
+        this.connection = executor.open();
+        try {
+            this.autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            executor.close(connection);
+            throw e;
+        }
+    }
+
+    /**
+     * Gets SQL database connection held by the transaction.
+     *
+     * @return SQL database connection (optional).
+     *
+     * @since v1.1
+     */
+    public Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Checks if the transaction has uncommitted calls.
+     *
+     * @return true if the transaction has uncommitted calls.
+     *
+     * @since v1.1
+     */
+    public boolean isPending() {
+        return pending;
+    }
+
+    /**
+     * Ends the transaction and releases its connection.
+     *
+     * <p>Uncommitted calls are rolled back.
+     *
+     * @throws SQLException if error occurs while ending the transaction.
+     *
+     * @since v1.1
+     */
+    public void close() throws SQLException {
+        if (connection == null) {
+            return;
+        }
+        try {
+            if (pending) {
+                rollback();
+            }
+        } finally {
+            Connection released = connection;
+            connection = null;
+            try {
+                released.setAutoCommit(autoCommit);
+                if (getCache() != executor.getCache()
+                        || !executor.isHolding()) {
+                    getCache().release(released);
+                }
+            } finally {
+                executor.close(released);
+            }
+        }
+    }
+
+    /**
+     * Commits all calls made within the transaction.
+     *
+     * @throws SQLException if error occurs while committing.
+     *
+     * @since v1.1
+     */
+    public void commit() throws SQLException {
+        hold().commit();
+        pending = false;
+    }
+
+    /**
+     * Rolls back all calls made within the transaction.
+     *
+     * @throws SQLException if error occurs while rolling back.
+     *
+     * @since v1.1
+     */
+    public void rollback() throws SQLException {
+        hold().rollback();
+        pending = false;
+    }
+
+    @Override
+    protected void close(Connection connection) throws SQLException {
+        // the connection is held until the transaction is closed
+    }
+
+    @Override
+    protected boolean isHolding() {
+        return true;
+    }
+
+    @Override
+    protected Connection open() throws SQLException {
+        Connection held = hold();
+        pending = true;
+        return held;
+    }
+
+    private Connection hold() throws SQLException {
+        if (connection == null) {
+            throw new SQLException("transaction is closed");
+        }
+        return connection;
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     StatementCache.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.01, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Per-connection cache of prepared callable SQL statements.
+ *
+ * <p>Statements are kept per connection in least recently used order and
+ * are closed when evicted, invalidated or released together with their
+ * connection.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class StatementCache {
+
+    /**
+     * Default maximum number of cached statements per connection.
+     *
+     * @since v1.1
+     */
+    public static final int DEFAULT_SIZE = 64;
+
+    private final Map<Connection, Map<String, CallableStatement>> statements;
+    private int size;
+
+    /**
+     * Creates a new instance of statement cache.
+     *
+     * @since v1.1
+     */
+    public StatementCache() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * Creates a new instance of statement cache.
+     *
+     * @param size maximum number of cached statements per connection.
+     *
+     * @since v1.1
+     */
+    public StatementCache(int size) {
+        this.statements =
+                new WeakHashMap<Connection, Map<String, CallableStatement>>();
+        this.size = size;
+    }
+
+    /**
+     * Gets maximum number of cached statements per connection.
+     *
+     * @return maximum number of statements.
+     *
+     * @since v1.1
+     */
+    public synchronized int getSize() {
+        return size;
+    }
+
+    /**
+     * Sets a new maximum number of cached statements per connection.
+     *
+     * <p>The new limit is applied to every connection on its next lookup.
+     *
+     * @param size maximum number of statements.
+     *
+     * @since v1.1
+     */
+    public synchronized void setSize(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Clears the cache closing all cached statements.
+     *
+     * @throws SQLException if error occurs while closing the statements.
+     *
+     * @since v1.1
+     */
+    public void clear() throws SQLException {
+        List<CallableStatement> removed = new LinkedList<CallableStatement>();
+        synchronized (this) {
+            for (Map<String, CallableStatement> cached : statements.values()) {
+                removed.addAll(cached.values());
+            }
+            statements.clear();
+        }
+        close(removed);
+    }
+
+    /**
+     * Removes all statements with specified SQL string closing them.
+     *
+     * @param sql SQL statement string.
+     * @throws SQLException if error occurs while closing the statements.
+     *
+     * @since v1.1
+     */
+    public void invalidate(String sql) throws SQLException {
+        List<CallableStatement> removed = new LinkedList<CallableStatement>();
+        synchronized (this) {
+            for (Map<String, CallableStatement> cached : statements.values()) {
+                CallableStatement statement = cached.remove(sql);
+                if (statement != null) {
+                    removed.add(statement);
+                }
+            }
+        }
+        close(removed);
+    }
+
+    /**
+     * Gets a cached callable statement or prepares a new one.
+     *
+     * @param connection SQL database connection.
+     * @param sql SQL statement string.
+     * @return callable SQL statement.
+     * @throws SQLException if error occurs while preparing the statement.
+     *
+     * @since v1.1
+     */
+    public CallableStatement prepare(Connection connection, String sql)
+            throws SQLException {
+        synchronized (this) {
+            Map<String, CallableStatement> cached = statements.get(connection);
+            if (cached != null) {
+                CallableStatement statement = cached.get(sql);
+                if (statement != null) {
+                    statement.clearParameters();
+                    return statement;
+                }
+            }
+        }
+        CallableStatement prepared = connection.prepareCall(sql);
+        CallableStatement statement = prepared;
+        List<CallableStatement> removed = new LinkedList<CallableStatement>();
+        synchronized (this) {
+            Map<String, CallableStatement> cached = statements.get(connection);
+            if (cached == null) {
+                cached = new LinkedHashMap<String, CallableStatement>(16,
+                        0.75f, true);
+                statements.put(connection, cached);
+            }
+            CallableStatement previous = cached.get(sql);
+            if (previous != null) {
+                // another thread has prepared the statement meanwhile
+                removed.add(statement);
+                statement = previous;
+            } else {
+                cached.put(sql, statement);
+            }
+            Iterator<CallableStatement> iterator = cached.values().iterator();
+            while (cached.size() > size && iterator.hasNext()) {
+                CallableStatement eldest = iterator.next();
+                if (eldest != statement) {
+                    iterator.remove();
+                    removed.add(eldest);
+                }
+            }
+        }
+        close(removed);
+        if (removed.contains(prepared)) {
+            statement.clearParameters();
+        }
+        return statement;
+    }
+
+    /**
+     * Removes all statements of specified connection closing them.
+     *
+     * <p>Should be invoked before the connection is closed or returned to
+     * its connection pool.
+     *
+     * @param connection SQL database connection.
+     * @throws SQLException if error occurs while closing the statements.
+     *
+     * @since v1.1
+     */
+    public void release(Connection connection) throws SQLException {
+        Map<String, CallableStatement> cached;
+        synchronized (this) {
+            cached = statements.remove(connection);
+        }
+        if (cached != null) {
+            close(cached.values());
+        }
+    }
+
+    private void close(Iterable<CallableStatement> statements)
+            throws SQLException {
+        SQLException error = null;
+        for (CallableStatement statement : statements) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                if (error == null) {
+                    error = e;
+                } else {
+                    error.setNextException(e);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+}
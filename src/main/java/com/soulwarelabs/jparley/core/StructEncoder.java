@@ -0,0 +1,82 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     StructEncoder.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.01, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import com.soulwarelabs.jparley.Converter;
+
+/**
+ * SQL structure input parameter encoder.
+ *
+ * <p>Converts collections or arrays of attribute values into SQL
+ * structures created by the connection. Requires a JDBC 4.0 driver.
+ * Null values are bound as SQL nulls typed with the structure name.
+ *
+ * @see ArrayEncoder
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class StructEncoder implements Converter, Serializable {
+
+    private final String struct;
+
+    /**
+     * Creates a new instance of structure encoder.
+     *
+     * @param struct SQL structure name.
+     *
+     * @since v1.1
+     */
+    public StructEncoder(String struct) {
+        this.struct = struct;
+    }
+
+    /**
+     * Gets SQL structure name.
+     *
+     * @return SQL structure name.
+     *
+     * @since v1.1
+     */
+    public String getStruct() {
+        return struct;
+    }
+
+    @Override
+    public Object perform(Connection connection, Object value)
+            throws SQLException {
+        if (value == null) {
+            return null;
+        }
+        return connection.createStruct(struct, ArrayEncoder.toArray(value));
+    }
+}
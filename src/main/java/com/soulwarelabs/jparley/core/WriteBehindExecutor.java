@@ -0,0 +1,634 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     WriteBehindExecutor.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.02, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.sql.SQLException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.soulwarelabs.jparley.Executor;
+import com.soulwarelabs.jparley.Function;
+import com.soulwarelabs.jparley.Subroutine;
+
+/**
+ * Write-behind SQL subroutines executor.
+ *
+ * <p>Subroutine calls are serialized and enqueued to a bounded queue and
+ * executed by background workers in batches, so callers do not wait for
+ * fire-and-forget subroutines (e.g. audit or metrics writes) and can
+ * reuse the subroutines right after the call.
+ * Once the queue is full, new calls are dropped, block the caller or are
+ * spilled to an append-only memory-mapped file, depending on the policy.
+ * Workers are started explicitly with {@link #start()} and wait for new
+ * calls without polling. Calls made after {@link #close()} are rejected.
+ *
+ * <p>Subroutines are snapshotted with Java serialization, so they have to
+ * be serializable together with their parameter values, converters and
+ * interceptors. A call with a subroutine which cannot be serialized fails
+ * with SQL exception, and none of its subroutines are enqueued.
+ *
+ * <p>Spilled calls, including calls left in an existing spill file (e.g.
+ * after a crash), are replayed by idle workers once the queue is drained
+ * and can be replayed explicitly with {@link #replay()}. Each spilled call
+ * is marked as replayed only after it is executed, so calls are replayed
+ * at least once. A call failing on replay is kept and retried by later
+ * replays; calls failing several times or which cannot be deserialized
+ * are moved to a dead-letter file for manual recovery, so that the spill
+ * file is reused once all its calls are processed. Function calls are
+ * executed synchronously.
+ *
+ * @see Executor
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class WriteBehindExecutor implements Executor {
+
+    /**
+     * Policy of dropping calls when the queue is full.
+     *
+     * @since v1.1
+     */
+    public static final int DROP = 0;
+
+    /**
+     * Policy of blocking callers when the queue is full.
+     *
+     * @since v1.1
+     */
+    public static final int BLOCK = 1;
+
+    /**
+     * Policy of spilling calls to the spill file when the queue is full.
+     *
+     * @since v1.1
+     */
+    public static final int SPILL = 2;
+
+    private static final byte ATTEMPTS = 3;
+    private static final int HEADER = 4;
+    private static final byte PENDING = 0;
+    private static final byte REPLAYED = -1;
+    private static final byte REJECTED = -2;
+    private static final byte[] WAKE = new byte[0];
+
+    private final int batchSize;
+    private final int capacity;
+    private final ReadWriteLock closing;
+    private final AtomicLong dropped;
+    private final Executor executor;
+    private final ThreadFactory factory;
+    private final AtomicLong failures;
+    private final Semaphore permits;
+    private final int policy;
+    private final BlockingQueue<byte[]> queue;
+    private volatile File rejected;
+    private final Object replaying;
+    private volatile MappedByteBuffer spill;
+    private volatile boolean spilled;
+    private volatile boolean stopped;
+    private Thread[] workers;
+    private final int workersNumber;
+
+    /**
+     * Creates a new instance of write-behind executor.
+     *
+     * @param executor SQL subroutines executor.
+     * @param factory worker threads factory.
+     * @param workers number of worker threads.
+     * @param capacity maximum number of queued calls.
+     * @param policy full queue policy.
+     * @param batchSize maximum number of calls executed at once by a
+     *        worker.
+     *
+     * @see Executor
+     * @see #DROP
+     * @see #BLOCK
+     * @see #SPILL
+     *
+     * @since v1.1
+     */
+    public WriteBehindExecutor(Executor executor, ThreadFactory factory,
+            int workers, int capacity, int policy, int batchSize) {
+        this.batchSize = batchSize;
+        this.capacity = capacity;
+        this.closing = new ReentrantReadWriteLock();
+        this.dropped = new AtomicLong();
+        this.executor = executor;
+        this.factory = factory;
+        this.failures = new AtomicLong();
+        this.permits = new Semaphore(capacity);
+        this.policy = policy;
+        this.queue = new LinkedBlockingQueue<byte[]>();
+        this.replaying = new Object();
+        this.workersNumber = workers;
+    }
+
+    /**
+     * Gets maximum number of calls executed at once by a worker.
+     *
+     * @return batch size.
+     *
+     * @since v1.1
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Gets number of dropped calls.
+     *
+     * @return number of calls.
+     *
+     * @since v1.1
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Gets underlying SQL subroutines executor.
+     *
+     * @return SQL subroutines executor.
+     *
+     * @see Executor
+     *
+     * @since v1.1
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Gets number of failed calls.
+     *
+     * @return number of calls.
+     *
+     * @since v1.1
+     */
+    public long getFailures() {
+        return failures.get();
+    }
+
+    /**
+     * Gets full queue policy.
+     *
+     * @return full queue policy.
+     *
+     * @since v1.1
+     */
+    public int getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Gets number of queued calls.
+     *
+     * @return number of calls.
+     *
+     * @since v1.1
+     */
+    public int getQueued() {
+        return capacity - permits.availablePermits();
+    }
+
+    /**
+     * Opens a spill file of specified size.
+     *
+     * <p>Calls left in an existing spill file are kept until replayed.
+     * Calls which cannot be replayed are appended to the dead-letter file
+     * named after the spill file with <code>.rejected</code> suffix, each
+     * as its length followed by its serialized form.
+     *
+     * @param file spill file.
+     * @param size spill file size in bytes.
+     * @throws IOException if error occurs while opening the file.
+     *
+     * @since v1.1
+     */
+    public void setSpill(File file, int size) throws IOException {
+        RandomAccessFile access = new RandomAccessFile(file, "rw");
+        try {
+            if (access.length() < size) {
+                access.setLength(size);
+            }
+            FileChannel channel = access.getChannel();
+            MappedByteBuffer buffer = channel.map(
+                    FileChannel.MapMode.READ_WRITE, 0, size);
+            int head = buffer.getInt(0);
+            int position = HEADER;
+            boolean pending = false;
+            while (position + HEADER + 1 <= size) {
+                int length = buffer.getInt(position);
+                if (length <= 0 || position + HEADER + 1 + length > size) {
+                    break;
+                }
+                pending |= buffer.get(position + HEADER) >= PENDING;
+                position += HEADER + 1 + length;
+            }
+            if (head < HEADER || head > position) {
+                buffer.putInt(0, HEADER);
+            }
+            buffer.position(position);
+            synchronized (this) {
+                rejected = new File(file.getPath() + ".rejected");
+                spill = buffer;
+                spilled = pending;
+            }
+            if (pending) {
+                signal();
+            }
+        } finally {
+            access.close();
+        }
+    }
+
+    @Override
+    public void call(Subroutine ... subroutines) throws SQLException {
+        byte[][] snapshots = new byte[subroutines.length][];
+        for (int i = 0; i < subroutines.length; i++) {
+            snapshots[i] = serialize(subroutines[i]);
+        }
+        closing.readLock().lock();
+        try {
+            if (stopped) {
+                throw new SQLException("executor is closed");
+            }
+            if (policy == SPILL && spill == null) {
+                throw new SQLException("spill file is not set");
+            }
+            for (byte[] snapshot : snapshots) {
+                enqueue(snapshot);
+            }
+        } finally {
+            closing.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Object call(Function function, Object ... parameters)
+            throws SQLException {
+        return executor.call(function, parameters);
+    }
+
+    /**
+     * Stops the workers once all queued calls are executed.
+     *
+     * <p>Calls accepted before the executor is closed are executed; later
+     * calls are rejected.
+     *
+     * @throws InterruptedException if interrupted while waiting for the
+     *         workers.
+     *
+     * @since v1.1
+     */
+    public void close() throws InterruptedException {
+        closing.writeLock().lock();
+        try {
+            stopped = true;
+        } finally {
+            closing.writeLock().unlock();
+        }
+        signal();
+        Thread[] started;
+        synchronized (this) {
+            started = workers;
+        }
+        if (started != null) {
+            for (Thread worker : started) {
+                worker.join();
+            }
+        }
+    }
+
+    /**
+     * Executes all pending calls of the spill file.
+     *
+     * @throws SQLException if error occurs while executing a call; the
+     *         call and all following ones are kept in the spill file.
+     *
+     * @since v1.1
+     */
+    public void replay() throws SQLException {
+        replay(true);
+    }
+
+    /**
+     * Starts the worker threads.
+     *
+     * @throws IllegalStateException if the workers are already started.
+     *
+     * @since v1.1
+     */
+    public synchronized void start() {
+        if (workers != null) {
+            throw new IllegalStateException("workers are already started");
+        }
+        workers = new Thread[workersNumber];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = factory.newThread(new Runnable() {
+
+                @Override
+                public void run() {
+                    drain();
+                }
+            });
+            workers[i].start();
+        }
+    }
+
+    private void drain() {
+        Subroutine[] batch = new Subroutine[batchSize];
+        while (true) {
+            byte[] snapshot = queue.poll();
+            if (snapshot == null) {
+                if (spilled) {
+                    replayQuietly();
+                    continue;
+                }
+                if (stopped) {
+                    signal();
+                    return;
+                }
+                snapshot = take();
+            }
+            int polled = 0;
+            int number = 0;
+            while (snapshot != null && snapshot != WAKE) {
+                polled++;
+                Subroutine subroutine = deserialize(snapshot);
+                if (subroutine != null) {
+                    batch[number++] = subroutine;
+                } else {
+                    failures.incrementAndGet();
+                }
+                snapshot = polled < batch.length ? queue.poll() : null;
+            }
+            if (polled == 0) {
+                continue;
+            }
+            permits.release(polled);
+            if (number == 0) {
+                continue;
+            }
+            Subroutine[] calls = batch;
+            if (number < batch.length) {
+                calls = new Subroutine[number];
+                System.arraycopy(batch, 0, calls, 0, number);
+            }
+            try {
+                executor.call(calls);
+            } catch (SQLException e) {
+                failures.addAndGet(number);
+            } catch (RuntimeException e) {
+                failures.addAndGet(number);
+            }
+            for (int i = 0; i < number; i++) {
+                batch[i] = null;
+            }
+        }
+    }
+
+    private Subroutine deserialize(byte[] bytes) {
+        try {
+            ObjectInputStream objects = new ObjectInputStream(
+                    new ByteArrayInputStream(bytes));
+            return (Subroutine) objects.readObject();
+        } catch (IOException e) {
+            return null;
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ClassCastException e) {
+            return null;
+        }
+    }
+
+    private void enqueue(byte[] snapshot) throws SQLException {
+        if (!permits.tryAcquire()) {
+            switch (policy) {
+            case BLOCK:
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    SQLException error =
+                            new SQLException("interrupted while waiting");
+                    error.initCause(e);
+                    throw error;
+                }
+                break;
+            case SPILL:
+                if (!spill(snapshot)) {
+                    dropped.incrementAndGet();
+                }
+                return;
+            default:
+                dropped.incrementAndGet();
+                return;
+            }
+        }
+        queue.offer(snapshot);
+    }
+
+    private synchronized void fail(int position) {
+        byte attempts = spill.get(position + HEADER);
+        spill.put(position + HEADER, (byte) (attempts + 1));
+        spill.force();
+    }
+
+    private synchronized byte getState(int position) {
+        return spill.get(position + HEADER);
+    }
+
+    private synchronized boolean mark(int position, byte state) {
+        spill.put(position + HEADER, state);
+        int head = spill.getInt(0);
+        int end = spill.position();
+        while (head < end && spill.get(head + HEADER) < PENDING) {
+            head += HEADER + 1 + spill.getInt(head);
+        }
+        boolean reset = head == end;
+        if (reset) {
+            for (int i = HEADER; i < end; i++) {
+                spill.put(i, (byte) 0);
+            }
+            spill.position(HEADER);
+            head = HEADER;
+        }
+        spill.putInt(0, head);
+        spill.force();
+        return reset;
+    }
+
+    private synchronized int next(int position) {
+        if (spill == null) {
+            return -1;
+        }
+        position = Math.max(position, spill.getInt(0));
+        int end = spill.position();
+        while (position < end && spill.get(position + HEADER) < PENDING) {
+            position += HEADER + 1 + spill.getInt(position);
+        }
+        return position < end ? position : -1;
+    }
+
+    private synchronized byte[] read(int position) {
+        byte[] bytes = new byte[spill.getInt(position)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = spill.get(position + HEADER + 1 + i);
+        }
+        return bytes;
+    }
+
+    private boolean reject(int position, byte[] bytes) {
+        try {
+            FileOutputStream output = new FileOutputStream(rejected, true);
+            try {
+                DataOutputStream data = new DataOutputStream(output);
+                data.writeInt(bytes.length);
+                data.write(bytes);
+                data.flush();
+                output.getFD().sync();
+            } finally {
+                output.close();
+            }
+        } catch (IOException e) {
+            // the call is kept in the spill file until it is moved
+            return false;
+        }
+        return mark(position, REJECTED);
+    }
+
+    private void replay(boolean explicit) throws SQLException {
+        synchronized (replaying) {
+            spilled = false;
+            int position = next(0);
+            while (position >= 0) {
+                byte[] bytes = read(position);
+                Subroutine subroutine = getState(position) < ATTEMPTS
+                        ? deserialize(bytes) : null;
+                boolean reset;
+                if (subroutine == null) {
+                    failures.incrementAndGet();
+                    reset = reject(position, bytes);
+                } else {
+                    try {
+                        executor.call(subroutine);
+                    } catch (SQLException e) {
+                        fail(position);
+                        failures.incrementAndGet();
+                        if (explicit) {
+                            throw e;
+                        }
+                        return;
+                    } catch (RuntimeException e) {
+                        fail(position);
+                        failures.incrementAndGet();
+                        if (explicit) {
+                            throw e;
+                        }
+                        return;
+                    }
+                    reset = mark(position, REPLAYED);
+                }
+                position = next(reset ? 0
+                        : position + HEADER + 1 + bytes.length);
+            }
+        }
+    }
+
+    private void replayQuietly() {
+        try {
+            replay(false);
+        } catch (SQLException e) {
+            // failures are counted and failed calls are kept for replay
+        }
+    }
+
+    private byte[] serialize(Subroutine subroutine) throws SQLException {
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            ObjectOutputStream objects = new ObjectOutputStream(output);
+            objects.writeObject(subroutine);
+            objects.close();
+            return output.toByteArray();
+        } catch (IOException e) {
+            SQLException error = new SQLException(String.format(
+                    "%s: cannot be serialized", subroutine.getName()));
+            error.initCause(e);
+            throw error;
+        }
+    }
+
+    private void signal() {
+        queue.offer(WAKE);
+    }
+
+    private synchronized boolean spill(byte[] bytes) {
+        boolean stored = spill.remaining() >= bytes.length + 2 * HEADER + 1;
+        if (stored) {
+            int position = spill.position();
+            spill.position(position + HEADER);
+            spill.put(PENDING);
+            spill.put(bytes);
+            spill.putInt(spill.position(), 0);
+            spill.putInt(position, bytes.length);
+            spill.force();
+        }
+        if (!spilled) {
+            spilled = true;
+            signal();
+        }
+        return stored;
+    }
+
+    private byte[] take() {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            // an interrupted worker checks the executor state again
+            return WAKE;
+        }
+    }
+}
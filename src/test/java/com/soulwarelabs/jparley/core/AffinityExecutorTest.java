@@ -0,0 +1,115 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     AffinityExecutorTest.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of {@link AffinityExecutor}.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class AffinityExecutorTest {
+
+    private Stubs.Database database;
+    private AffinityExecutor executor;
+
+    @Before
+    public void setUp() {
+        database = new Stubs.Database();
+        executor = new AffinityExecutor(database);
+    }
+
+    @Test
+    public void invalidLeaseIsReplacedAfterFailure() throws SQLException {
+        executor.call(new StandardProcedure("p"));
+        callFailing();
+        database.setValid(false);
+        executor.call(new StandardProcedure("p"));
+        assertEquals(2, database.getOpened());
+        assertEquals(1, database.getClosed());
+        executor.close();
+        assertEquals(2, database.getClosed());
+    }
+
+    @Test
+    public void validLeaseIsKeptAfterFailure() throws SQLException {
+        executor.call(new StandardProcedure("p"));
+        callFailing();
+        executor.call(new StandardProcedure("p"));
+        assertEquals(1, database.getOpened());
+        assertEquals(0, database.getClosed());
+        executor.close();
+    }
+
+    @Test
+    public void warmedStatementsAreKept() throws SQLException {
+        Plan plan = new Plan("p");
+        executor.register(plan);
+        executor.warmUp(1);
+        List<CallableStatement> statements = database.getStatements();
+        assertEquals(1, database.getOpened());
+        assertEquals(1, statements.size());
+        assertFalse(Stubs.isClosed(statements.get(0)));
+        executor.call(plan, new Object[0]);
+        assertEquals(1, database.getOpened());
+        assertEquals(1, database.getStatements().size());
+        executor.close();
+        assertTrue(Stubs.isClosed(statements.get(0)));
+        assertEquals(1, database.getClosed());
+    }
+
+    private void callFailing() {
+        try {
+            executor.call(new StandardProcedure("failing") {
+
+                @Override
+                public void execute(Connection connection,
+                        StatementCache cache, Listener listener)
+                        throws SQLException {
+                    throw new SQLException("failed");
+                }
+            });
+            fail();
+        } catch (SQLException e) {
+            assertEquals("failed", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     CachingExecutorTest.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Tests of {@link CachingExecutor}.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class CachingExecutorTest {
+
+    private int calls;
+
+    @Test
+    public void overflowEvictsLeastRecentlyUsedResults() throws SQLException,
+            InterruptedException {
+        CachingExecutor executor = new CachingExecutor(createExecutor(), 8,
+                0, TimeUnit.SECONDS);
+        FunctionDescriptor function = new FunctionDescriptor("f",
+                Types.INTEGER);
+        for (int i = 0; i < 8; i++) {
+            executor.call(function, i);
+            Thread.sleep(1);
+        }
+        executor.call(function, 0);
+        Thread.sleep(1);
+        executor.call(function, 8);
+        assertTrue(executor.getSize() <= 8);
+        assertEquals(9, calls);
+        executor.call(function, 0);
+        executor.call(function, 8);
+        assertEquals(9, calls);
+        executor.call(function, 1);
+        assertEquals(10, calls);
+    }
+
+    @Test
+    public void hitsDoNotCallExecutor() throws SQLException {
+        CachingExecutor executor = new CachingExecutor(createExecutor(), 8,
+                0, TimeUnit.SECONDS);
+        FunctionDescriptor function = new FunctionDescriptor("f",
+                Types.INTEGER);
+        assertEquals(1, executor.call(function, 1));
+        assertEquals(1, executor.call(function, 1));
+        assertEquals(1, calls);
+        assertEquals(1, executor.getHits());
+        assertEquals(1, executor.getMisses());
+    }
+
+    private StandardExecutor createExecutor() {
+        return new StandardExecutor(new Stubs.Database()) {
+
+            @Override
+            public Object call(FunctionDescriptor function,
+                    Object ... parameters) {
+                calls++;
+                return parameters[0];
+            }
+        };
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     CircuitBreakerTest.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests of {@link CircuitBreaker}.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class CircuitBreakerTest {
+
+    @Test
+    public void onlyProbeEndsHalfOpenState() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 0);
+        int permission = breaker.acquire();
+        assertEquals(CircuitBreaker.PERMITTED, permission);
+        int late = breaker.acquire();
+        breaker.failure(permission);
+        assertTrue(breaker.isOpen());
+        int probe = breaker.acquire();
+        assertEquals(CircuitBreaker.PROBE, probe);
+        breaker.cancel(late);
+        assertEquals(CircuitBreaker.REJECTED, breaker.acquire());
+        breaker.failure(late);
+        assertEquals(CircuitBreaker.REJECTED, breaker.acquire());
+        breaker.success(probe);
+        assertFalse(breaker.isOpen());
+        assertEquals(CircuitBreaker.PERMITTED, breaker.acquire());
+    }
+
+    @Test
+    public void failedProbeOpensBreakerAgain() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 0);
+        breaker.failure(breaker.acquire());
+        int probe = breaker.acquire();
+        assertEquals(CircuitBreaker.PROBE, probe);
+        breaker.failure(probe);
+        assertTrue(breaker.isOpen());
+        assertEquals(CircuitBreaker.PROBE, breaker.acquire());
+    }
+}
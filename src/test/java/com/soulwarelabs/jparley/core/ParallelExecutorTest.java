@@ -0,0 +1,124 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     ParallelExecutorTest.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests of {@link ParallelExecutor}.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class ParallelExecutorTest {
+
+    private ExecutorService workers;
+
+    @After
+    public void tearDown() {
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+
+    @Test
+    public void failedCallWaitsForRunningParts() throws SQLException {
+        final CountDownLatch failed = new CountDownLatch(1);
+        final AtomicBoolean finished = new AtomicBoolean();
+        StandardProcedure slow = new StandardProcedure("slow") {
+
+            @Override
+            public void execute(Connection connection, StatementCache cache,
+                    Listener listener) throws SQLException {
+                try {
+                    failed.await();
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                finished.set(true);
+            }
+        };
+        Stubs.Database database = new Stubs.Database();
+        workers = Executors.newFixedThreadPool(2);
+        ParallelExecutor executor = new ParallelExecutor(database, workers,
+                2);
+        try {
+            executor.call(createFailing(failed), slow);
+            fail();
+        } catch (SQLException e) {
+            assertEquals("failed", e.getMessage());
+        }
+        assertTrue(finished.get());
+        assertEquals(database.getOpened(), database.getClosed());
+    }
+
+    @Test
+    public void cancelledPartsReturnPermits() throws SQLException {
+        Stubs.Database database = new Stubs.Database();
+        workers = Executors.newSingleThreadExecutor();
+        ParallelExecutor executor = new ParallelExecutor(database, workers,
+                3, 3, null, null);
+        try {
+            executor.call(createFailing(new CountDownLatch(1)),
+                    new StandardProcedure("p"), new StandardProcedure("q"));
+            fail();
+        } catch (SQLException e) {
+            assertEquals("failed", e.getMessage());
+        }
+        int opened = database.getOpened();
+        executor.call(new StandardProcedure("p"), new StandardProcedure("q"),
+                new StandardProcedure("r"));
+        assertEquals(opened + 3, database.getOpened());
+        assertEquals(database.getOpened(), database.getClosed());
+    }
+
+    private StandardProcedure createFailing(final CountDownLatch failed) {
+        return new StandardProcedure("failing") {
+
+            @Override
+            public void execute(Connection connection, StatementCache cache,
+                    Listener listener) throws SQLException {
+                failed.countDown();
+                throw new SQLException("failed");
+            }
+        };
+    }
+}
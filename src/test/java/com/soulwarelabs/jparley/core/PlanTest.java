@@ -0,0 +1,159 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     PlanTest.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of {@link Plan}.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class PlanTest {
+
+    private List<Map<String, Object>> columns;
+    private Stubs.Database database;
+    private List<Object[]> requests;
+
+    @Before
+    public void setUp() {
+        columns = new ArrayList<Map<String, Object>>();
+        database = new Stubs.Database();
+        requests = new ArrayList<Object[]>();
+        database.setMetaData(Stubs.createMetaData(columns, requests));
+    }
+
+    @Test
+    public void onePartNameIsResolvedInCurrentSchema() throws SQLException {
+        columns.add(Stubs.createColumn("routine", 1,
+                DatabaseMetaData.procedureColumnIn, Types.INTEGER));
+        database.setSchema("app_1");
+        Plan plan = new Plan("get_total");
+        plan.in(Types.INTEGER);
+        plan.validate(database.getConnection());
+        assertEquals(1, requests.size());
+        Object[] request = requests.get(0);
+        assertNull(request[0]);
+        assertEquals("app\\_1", request[1]);
+        assertEquals("get\\_total", request[2]);
+    }
+
+    @Test
+    public void onePartNameFallsBackToCurrentCatalog() throws SQLException {
+        columns.add(Stubs.createColumn("routine", 1,
+                DatabaseMetaData.procedureColumnIn, Types.INTEGER));
+        database.setCatalog("shop");
+        Plan plan = new Plan("total%");
+        plan.in(Types.INTEGER);
+        plan.validate(database.getConnection());
+        assertEquals(1, requests.size());
+        Object[] request = requests.get(0);
+        assertEquals("shop", request[0]);
+        assertNull(request[1]);
+        assertEquals("total\\%", request[2]);
+    }
+
+    @Test
+    public void overloadedRoutineIsRejected() throws SQLException {
+        columns.add(Stubs.createColumn("routine_1", 1,
+                DatabaseMetaData.procedureColumnIn, Types.INTEGER));
+        columns.add(Stubs.createColumn("routine_2", 1,
+                DatabaseMetaData.procedureColumnIn, Types.VARCHAR));
+        database.setSchema("app");
+        Plan plan = new Plan("routine");
+        plan.in(Types.INTEGER);
+        try {
+            plan.validate(database.getConnection());
+            fail();
+        } catch (SQLException e) {
+            assertTrue(e.getMessage().contains("overloaded"));
+        }
+    }
+
+    @Test
+    public void repeatedPositionIsRejected() throws SQLException {
+        columns.add(Stubs.createColumn(null, 1,
+                DatabaseMetaData.procedureColumnIn, Types.INTEGER));
+        columns.add(Stubs.createColumn(null, 1,
+                DatabaseMetaData.procedureColumnIn, Types.INTEGER));
+        database.setSchema("app");
+        Plan plan = new Plan("routine");
+        plan.in(Types.INTEGER);
+        try {
+            plan.validate(database.getConnection());
+            fail();
+        } catch (SQLException e) {
+            assertTrue(e.getMessage().contains("overloaded"));
+        }
+    }
+
+    @Test
+    public void lazyDecoderIsCopiedPerCall() throws SQLException {
+        LazyBox template = new LazyBox(null);
+        Plan plan = new Plan("f", Types.INTEGER, null, template);
+        Connection connection = database.getConnection();
+        Object[] first = new Object[1];
+        Object[] second = new Object[1];
+        plan.call(connection, null, first);
+        plan.call(connection, null, second);
+        assertTrue(first[0] instanceof LazyBox);
+        assertTrue(second[0] instanceof LazyBox);
+        assertNotSame(template, first[0]);
+        assertNotSame(first[0], second[0]);
+        assertNull(template.getValue());
+    }
+
+    @Test
+    public void lazyFunctionDecoderIsCopiedPerCall() throws SQLException {
+        LazyBox template = new LazyBox(null);
+        FunctionDescriptor function = new FunctionDescriptor("f",
+                Types.INTEGER, null, template, null, null);
+        Connection connection = database.getConnection();
+        Object first = function.call(connection, null);
+        Object second = function.call(connection, null);
+        assertTrue(first instanceof LazyBox);
+        assertNotSame(template, first);
+        assertNotSame(first, second);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     RecorderTest.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+/**
+ * Tests of {@link Recorder}.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class RecorderTest {
+
+    @Test
+    public void slotsAreOverwrittenInPlace() throws IOException {
+        Recorder recorder = new Recorder(2, 4, true);
+        recorder.record(createProcedure("first", 1));
+        recorder.record(createProcedure("second", 2));
+        recorder.record(createProcedure("third", 3));
+        StringBuilder output = new StringBuilder();
+        recorder.dump(output);
+        String dump = output.toString();
+        assertFalse(dump.contains("first"));
+        assertTrue(dump.contains("second {1 (4/null) = 2}"));
+        assertTrue(dump.contains("third {1 (4/null) = 3}"));
+        assertTrue(dump.indexOf("second") < dump.indexOf("third"));
+    }
+
+    @Test
+    public void resetRemovesRecordedCalls() throws IOException {
+        Recorder recorder = new Recorder(2, 4, false);
+        recorder.record(createProcedure("first", 1));
+        recorder.reset();
+        recorder.record(createProcedure("second", 2));
+        StringBuilder output = new StringBuilder();
+        recorder.dump(output);
+        String dump = output.toString();
+        assertFalse(dump.contains("first"));
+        assertTrue(dump.contains("second {1 (4/null)}"));
+        assertEquals(1, dump.split("\r\n").length);
+    }
+
+    private StandardProcedure createProcedure(String name, int value) {
+        StandardProcedure procedure = new StandardProcedure(name);
+        procedure.inInt(1, value);
+        return procedure;
+    }
+}
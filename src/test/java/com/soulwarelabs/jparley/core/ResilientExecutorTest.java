@@ -0,0 +1,77 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     ResilientExecutorTest.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Tests of {@link ResilientExecutor}.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class ResilientExecutorTest {
+
+    @Test
+    public void interruptedWaitIsReportedAsInterrupt() {
+        ResilientExecutor executor = new ResilientExecutor(
+                new StandardExecutor(new Stubs.Database()), 0);
+        executor.setTimeout(1, TimeUnit.SECONDS);
+        Thread.currentThread().interrupt();
+        try {
+            executor.call(new StandardProcedure("p"));
+            fail();
+        } catch (SQLException e) {
+            assertEquals("interrupted while waiting", e.getMessage());
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+        assertFalse(executor.getBreaker("p").isOpen());
+    }
+
+    @Test
+    public void exhaustedLimitIsReported() {
+        ResilientExecutor executor = new ResilientExecutor(
+                new StandardExecutor(new Stubs.Database()), 0);
+        try {
+            executor.call(new StandardProcedure("p"));
+            fail();
+        } catch (SQLException e) {
+            assertEquals("concurrency limit exceeded", e.getMessage());
+        }
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     ShardingExecutorTest.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Tests of {@link ShardingExecutor}.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class ShardingExecutorTest {
+
+    private static class Deferring extends AbstractExecutorService {
+
+        private final List<Runnable> deferred = new ArrayList<Runnable>();
+        private boolean started;
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (started) {
+                deferred.add(command);
+            } else {
+                started = true;
+                command.run();
+            }
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return deferred;
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ringSizeMustMatchShards() {
+        Stubs.Database database = new Stubs.Database();
+        new ShardingExecutor(new ShardKey(1), new HashRing(3),
+                new Deferring(), new StandardExecutor(database),
+                new StandardExecutor(database));
+    }
+
+    @Test
+    public void failedShardCancelsPendingShards() {
+        Deferring workers = new Deferring();
+        StandardExecutor failing = new StandardExecutor(new Stubs.Database()) {
+
+            @Override
+            public Object call(FunctionDescriptor function,
+                    Object ... parameters) throws SQLException {
+                throw new SQLException("failed");
+            }
+        };
+        Stubs.Database database = new Stubs.Database();
+        ShardingExecutor executor = new ShardingExecutor(new ShardKey(1),
+                new HashRing(3), workers, failing,
+                new StandardExecutor(database),
+                new StandardExecutor(database));
+        try {
+            executor.gather(new FunctionDescriptor("f", Types.INTEGER));
+            fail();
+        } catch (SQLException e) {
+            assertEquals("failed", e.getMessage());
+        }
+        assertEquals(2, workers.deferred.size());
+        for (Runnable task : workers.deferred) {
+            assertTrue(((Future<?>) task).isCancelled());
+        }
+        assertEquals(0, database.getOpened());
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     StandardExecutorTest.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.junit.Test;
+
+/**
+ * Tests of {@link StandardExecutor}.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class StandardExecutorTest {
+
+    @Test
+    public void releasingExecutorIgnoresSubroutineCache()
+            throws SQLException {
+        final int[] prepared = new int[1];
+        StatementCache cache = new StatementCache() {
+
+            @Override
+            public CallableStatement prepare(Connection connection,
+                    String sql) throws SQLException {
+                prepared[0]++;
+                return super.prepare(connection, sql);
+            }
+        };
+        Stubs.Database database = new Stubs.Database();
+        StandardProcedure procedure = new StandardProcedure("p");
+        procedure.setCache(cache);
+        new StandardExecutor(database).call(procedure);
+        assertEquals(0, prepared[0]);
+        assertEquals(1, database.getStatements().size());
+        assertTrue(Stubs.isClosed(database.getStatements().get(0)));
+        assertEquals(1, database.getClosed());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     StatementCacheTest.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests of {@link StatementCache}.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class StatementCacheTest {
+
+    @Test
+    public void concurrentMissKeepsFirstPreparedStatement()
+            throws SQLException {
+        final StatementCache cache = new StatementCache();
+        Stubs.Database database = new Stubs.Database();
+        final Connection connection = database.getConnection();
+        final CallableStatement[] first = new CallableStatement[1];
+        database.setPreparing(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    first[0] = cache.prepare(connection, "{call p}");
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+        CallableStatement second = cache.prepare(connection, "{call p}");
+        List<CallableStatement> prepared = database.getStatements();
+        assertEquals(2, prepared.size());
+        assertSame(first[0], second);
+        assertFalse(Stubs.isClosed(first[0]));
+        assertTrue(Stubs.isClosed(prepared.get(1)));
+        assertSame(first[0], cache.prepare(connection, "{call p}"));
+    }
+
+    @Test
+    public void evictedStatementIsClosed() throws SQLException {
+        StatementCache cache = new StatementCache(1);
+        Connection connection = new Stubs.Database().getConnection();
+        CallableStatement first = cache.prepare(connection, "{call p}");
+        CallableStatement second = cache.prepare(connection, "{call q}");
+        assertTrue(Stubs.isClosed(first));
+        assertFalse(Stubs.isClosed(second));
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     Stubs.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.soulwarelabs.jcommons.sql.ConnectionPool;
+
+/**
+ * In-memory JDBC stand-ins used by tests.
+ *
+ * <p>Stub connections and statements accept any calls and return default
+ * values while keeping track of taken connections and prepared statements.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+final class Stubs {
+
+    static class Database implements ConnectionPool {
+
+        private volatile String catalog;
+        private final AtomicInteger closed;
+        private volatile DatabaseMetaData metadata;
+        private final AtomicInteger opened;
+        private volatile Runnable preparing;
+        private volatile String schema;
+        private final List<CallableStatement> statements;
+        private volatile boolean valid;
+
+        public Database() {
+            this.closed = new AtomicInteger();
+            this.opened = new AtomicInteger();
+            this.statements = Collections.synchronizedList(
+                    new ArrayList<CallableStatement>());
+            this.valid = true;
+        }
+
+        public void setCatalog(String catalog) {
+            this.catalog = catalog;
+        }
+
+        public int getClosed() {
+            return closed.get();
+        }
+
+        public void setMetaData(DatabaseMetaData metadata) {
+            this.metadata = metadata;
+        }
+
+        public int getOpened() {
+            return opened.get();
+        }
+
+        public void setPreparing(Runnable preparing) {
+            this.preparing = preparing;
+        }
+
+        public void setSchema(String schema) {
+            this.schema = schema;
+        }
+
+        public List<CallableStatement> getStatements() {
+            synchronized (statements) {
+                return new ArrayList<CallableStatement>(statements);
+            }
+        }
+
+        public void setValid(boolean valid) {
+            this.valid = valid;
+        }
+
+        @Override
+        public Connection getConnection() {
+            opened.incrementAndGet();
+            return (Connection) Proxy.newProxyInstance(
+                    Stubs.class.getClassLoader(),
+                    new Class<?>[] {Connection.class},
+                    new ConnectionHandler(this));
+        }
+    }
+
+    private static class ConnectionHandler implements InvocationHandler {
+
+        private volatile boolean closed;
+        private final Database database;
+
+        public ConnectionHandler(Database database) {
+            this.database = database;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] arguments) {
+            String name = method.getName();
+            if (name.equals("prepareCall")) {
+                Runnable hook = database.preparing;
+                database.preparing = null;
+                if (hook != null) {
+                    hook.run();
+                }
+                CallableStatement statement = (CallableStatement)
+                        Proxy.newProxyInstance(Stubs.class.getClassLoader(),
+                        new Class<?>[] {CallableStatement.class},
+                        new StatementHandler());
+                database.statements.add(statement);
+                return statement;
+            }
+            if (name.equals("close")) {
+                if (!closed) {
+                    closed = true;
+                    database.closed.incrementAndGet();
+                }
+                return null;
+            }
+            if (name.equals("isClosed")) {
+                return closed;
+            }
+            if (name.equals("isValid")) {
+                return database.valid;
+            }
+            if (name.equals("getMetaData")) {
+                return database.metadata;
+            }
+            if (name.equals("getSchema")) {
+                return database.schema;
+            }
+            if (name.equals("getCatalog")) {
+                return database.catalog;
+            }
+            return invokeObject(proxy, method, arguments);
+        }
+    }
+
+    private static class StatementHandler implements InvocationHandler {
+
+        private volatile boolean closed;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] arguments) {
+            String name = method.getName();
+            if (name.equals("close")) {
+                closed = true;
+                return null;
+            }
+            if (name.equals("isClosed")) {
+                return closed;
+            }
+            return invokeObject(proxy, method, arguments);
+        }
+    }
+
+    /**
+     * Creates a new stub database metadata describing procedure columns.
+     *
+     * <p>Each column is described by a row created with
+     * {@link #createColumn(String, int, int, int)}. Arguments of every
+     * procedure columns request are added to specified list.
+     *
+     * @param columns procedure column rows.
+     * @param requests procedure column requests.
+     * @return database metadata.
+     *
+     * @since v1.1
+     */
+    static DatabaseMetaData createMetaData(
+            final List<Map<String, Object>> columns,
+            final List<Object[]> requests) {
+        return (DatabaseMetaData) Proxy.newProxyInstance(
+                Stubs.class.getClassLoader(),
+                new Class<?>[] {DatabaseMetaData.class},
+                new InvocationHandler() {
+
+            @Override
+            public Object invoke(Object proxy, Method method,
+                    Object[] arguments) {
+                String name = method.getName();
+                if (name.equals("getProcedureColumns")) {
+                    requests.add(arguments.clone());
+                    return createRows(columns);
+                }
+                if (name.equals("getSearchStringEscape")) {
+                    return "\\";
+                }
+                return invokeObject(proxy, method, arguments);
+            }
+        });
+    }
+
+    /**
+     * Creates a new procedure column metadata row.
+     *
+     * @param specificName procedure specific name.
+     * @param position column ordinal position.
+     * @param mode column kind.
+     * @param type column SQL type code.
+     * @return metadata row.
+     *
+     * @since v1.1
+     */
+    static Map<String, Object> createColumn(String specificName,
+            int position, int mode, int type) {
+        Map<String, Object> row = new HashMap<String, Object>();
+        row.put("COLUMN_TYPE", mode);
+        row.put("DATA_TYPE", type);
+        row.put("ORDINAL_POSITION", position);
+        row.put("PROCEDURE_NAME", "routine");
+        row.put("PROCEDURE_SCHEM", "app");
+        row.put("SPECIFIC_NAME", specificName);
+        return row;
+    }
+
+    /**
+     * Checks if specified stub statement is closed.
+     *
+     * @param statement stub statement.
+     * @return true if the statement is closed.
+     *
+     * @since v1.1
+     */
+    static boolean isClosed(Statement statement) {
+        return ((StatementHandler) Proxy.getInvocationHandler(statement))
+                .closed;
+    }
+
+    private static ResultSet createRows(
+            final List<Map<String, Object>> rows) {
+        return (ResultSet) Proxy.newProxyInstance(
+                Stubs.class.getClassLoader(),
+                new Class<?>[] {ResultSet.class}, new InvocationHandler() {
+
+            private int index = -1;
+
+            @Override
+            public Object invoke(Object proxy, Method method,
+                    Object[] arguments) {
+                String name = method.getName();
+                if (name.equals("next")) {
+                    return ++index < rows.size();
+                }
+                if (name.equals("getShort")) {
+                    Number value = (Number) rows.get(index).get(arguments[0]);
+                    return value.shortValue();
+                }
+                if (name.equals("getInt")) {
+                    Number value = (Number) rows.get(index).get(arguments[0]);
+                    return value.intValue();
+                }
+                if (name.equals("getString")) {
+                    return rows.get(index).get(arguments[0]);
+                }
+                return invokeObject(proxy, method, arguments);
+            }
+        });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == double.class) {
+            return 0d;
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == int[].class) {
+            return new int[0];
+        }
+        return null;
+    }
+
+    private static Object invokeObject(Object proxy, Method method,
+            Object[] arguments) {
+        String name = method.getName();
+        if (name.equals("hashCode")) {
+            return System.identityHashCode(proxy);
+        }
+        if (name.equals("equals")) {
+            return proxy == arguments[0];
+        }
+        if (name.equals("toString")) {
+            return "stub@" + System.identityHashCode(proxy);
+        }
+        return defaultValue(method.getReturnType());
+    }
+
+    private Stubs() {
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Project:  jParley-Core
+ * Outline:  jParley framework core components
+ *
+ * File:     WriteBehindExecutorTest.java
+ * Folder:   /.../com/soulwarelabs/jparley/core
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Author:   Ilya Gubarev
+ *
+ * Copyright (c) 2014 Soulware Labs, Ltd.
+ * Contact information is available at http://www.soulwarelabs.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jparley.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of {@link WriteBehindExecutor}.
+ *
+ * @since v1.1
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class WriteBehindExecutorTest {
+
+    private static class Counting extends StandardProcedure {
+
+        private static final AtomicInteger EXECUTED = new AtomicInteger();
+
+        public Counting(String name) {
+            super(name);
+        }
+
+        @Override
+        public void execute(Connection connection, StatementCache cache,
+                Listener listener) throws SQLException {
+            EXECUTED.incrementAndGet();
+        }
+    }
+
+    private static class Failing extends StandardProcedure {
+
+        private static volatile boolean failing;
+
+        public Failing(String name) {
+            super(name);
+        }
+
+        @Override
+        public void execute(Connection connection, StatementCache cache,
+                Listener listener) throws SQLException {
+            if (failing) {
+                throw new SQLException("failed");
+            }
+        }
+    }
+
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        Counting.EXECUTED.set(0);
+        Failing.failing = false;
+        file = File.createTempFile("jparley", ".spill");
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+        new File(file.getPath() + ".rejected").delete();
+    }
+
+    @Test
+    public void acceptedCallsAreExecutedOnClose() throws SQLException,
+            InterruptedException {
+        WriteBehindExecutor executor = createExecutor(8,
+                WriteBehindExecutor.DROP);
+        executor.start();
+        executor.call(new Counting("first"), new Counting("second"));
+        executor.close();
+        assertEquals(2, Counting.EXECUTED.get());
+        assertEquals(0, executor.getQueued());
+    }
+
+    @Test
+    public void callsAfterCloseAreRejected() throws InterruptedException {
+        WriteBehindExecutor executor = createExecutor(8,
+                WriteBehindExecutor.DROP);
+        executor.start();
+        executor.close();
+        try {
+            executor.call(new Counting("late"));
+            fail();
+        } catch (SQLException e) {
+            assertEquals("executor is closed", e.getMessage());
+        }
+        assertEquals(0, Counting.EXECUTED.get());
+    }
+
+    @Test
+    public void unserializableCallIsRejectedWhole() {
+        WriteBehindExecutor executor = createExecutor(8,
+                WriteBehindExecutor.DROP);
+        Interceptor interceptor = new Interceptor() {
+
+            @Override
+            public void perform(Connection connection) {
+            }
+        };
+        try {
+            executor.call(new Counting("first"),
+                    new StandardProcedure("second", interceptor, null));
+            fail();
+        } catch (SQLException e) {
+            assertTrue(e.getMessage().contains("cannot be serialized"));
+        }
+        assertEquals(0, executor.getQueued());
+    }
+
+    @Test
+    public void failingSpilledCallIsMovedToDeadLetterFile()
+            throws SQLException, IOException {
+        WriteBehindExecutor executor = createExecutor(0,
+                WriteBehindExecutor.SPILL);
+        executor.setSpill(file, 64 * 1024);
+        Failing.failing = true;
+        executor.call(new Failing("failing"));
+        for (int i = 0; i < 3; i++) {
+            try {
+                executor.replay();
+                fail();
+            } catch (SQLException e) {
+                // the call is kept for another attempt
+            }
+        }
+        executor.replay();
+        assertEquals(4, executor.getFailures());
+        File rejected = new File(file.getPath() + ".rejected");
+        assertTrue(rejected.length() > 4);
+        RandomAccessFile spill = new RandomAccessFile(file, "r");
+        try {
+            assertEquals(4, spill.readInt());
+            assertEquals(0, spill.readInt());
+        } finally {
+            spill.close();
+        }
+    }
+
+    private WriteBehindExecutor createExecutor(int capacity, int policy) {
+        return new WriteBehindExecutor(
+                new StandardExecutor(new Stubs.Database()),
+                Executors.defaultThreadFactory(), 2, capacity, policy, 4);
+    }
+}